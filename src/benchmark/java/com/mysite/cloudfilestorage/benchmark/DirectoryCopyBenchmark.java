@@ -0,0 +1,87 @@
+package com.mysite.cloudfilestorage.benchmark;
+
+import com.mysite.cloudfilestorage.config.storage.StorageProperties;
+import com.mysite.cloudfilestorage.dto.ParallelResult;
+import com.mysite.cloudfilestorage.service.resource.common.BoundedParallelExecutor;
+import com.mysite.cloudfilestorage.service.storage.InMemoryObjectStore;
+import com.mysite.cloudfilestorage.util.PathUtil;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class DirectoryCopyBenchmark {
+
+    private static final int OBJECT_SIZE = 1024;
+    private static final String FROM = "folder/";
+    private static final String TO = "renamed/";
+
+    @Param({"200", "2000"})
+    private int objectCount;
+
+    @Param({"1", "16", "64"})
+    private int copyParallelism;
+
+    @Param({"2"})
+    private int latencyMillis;
+
+    private ExecutorService executor;
+    private BoundedParallelExecutor copyParallelExecutor;
+    private InMemoryObjectStore objectStore;
+    private List<String> sourceKeys;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        executor = Executors.newFixedThreadPool(64);
+        copyParallelExecutor = new BoundedParallelExecutor(executor, () -> copyParallelism);
+        sourceKeys = IntStream.range(0, objectCount)
+                .mapToObj(i -> "user-1-files/" + FROM + "file-" + i)
+                .toList();
+
+        StorageProperties storageProperties = new StorageProperties();
+        objectStore = new InMemoryObjectStore(storageProperties);
+        for (String key : sourceKeys) {
+            objectStore.put(key, new ByteArrayInputStream(new byte[OBJECT_SIZE]), (long) OBJECT_SIZE);
+        }
+        storageProperties.getMemory().setLatency(Duration.ofMillis(latencyMillis));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public ParallelResult<String> copyDirectory() throws InterruptedException {
+        return copyParallelExecutor.runAll(sourceKeys, Function.identity(), this::copy);
+    }
+
+    private String copy(String sourceKey) throws Exception {
+        String targetKey = PathUtil.buildMovedFileKey(sourceKey, FROM, TO);
+        objectStore.copy(sourceKey, targetKey, OBJECT_SIZE);
+        return targetKey;
+    }
+}
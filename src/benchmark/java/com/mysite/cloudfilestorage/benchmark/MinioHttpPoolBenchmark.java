@@ -0,0 +1,129 @@
+package com.mysite.cloudfilestorage.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class MinioHttpPoolBenchmark {
+
+    @Param({"5", "32", "128"})
+    private int maxRequestsPerHost;
+
+    @Param({"1", "16", "64"})
+    private int maxIdleConnections;
+
+    @Param({"128"})
+    private int concurrentRequests;
+
+    @Param({"16"})
+    private int objectSizeKb;
+
+    @Param({"2"})
+    private int latencyMillis;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private OkHttpClient client;
+    private Request request;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        byte[] object = new byte[objectSizeKb * 1024];
+        long latencyNanos = TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(serverExecutor);
+        server.createContext("/bucket/object", exchange -> {
+            LockSupport.parkNanos(latencyNanos);
+            exchange.sendResponseHeaders(200, object.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(object);
+            }
+        });
+        server.start();
+
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(Math.max(64, maxRequestsPerHost));
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        client = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(maxIdleConnections, 5, TimeUnit.MINUTES))
+                .build();
+        request = new Request.Builder()
+                .url("http://127.0.0.1:" + server.getAddress().getPort() + "/bucket/object")
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.dispatcher().executorService().shutdownNow();
+        client.connectionPool().evictAll();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public long getObjects() {
+        List<CompletableFuture<Long>> responses = new ArrayList<>(concurrentRequests);
+
+        for (int i = 0; i < concurrentRequests; i++) {
+            CompletableFuture<Long> response = new CompletableFuture<>();
+            client.newCall(request).enqueue(new Callback() {
+                @Override
+                public void onFailure(Call call, IOException exception) {
+                    response.completeExceptionally(exception);
+                }
+
+                @Override
+                public void onResponse(Call call, Response httpResponse) throws IOException {
+                    try (ResponseBody body = httpResponse.body()) {
+                        response.complete((long) body.bytes().length);
+                    }
+                }
+            });
+            responses.add(response);
+        }
+
+        return responses.stream()
+                .mapToLong(CompletableFuture::join)
+                .sum();
+    }
+}
@@ -0,0 +1,60 @@
+package com.mysite.cloudfilestorage.benchmark;
+
+import com.mysite.cloudfilestorage.util.PathUtil;
+import com.mysite.cloudfilestorage.validation.PathValidator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class MoveValidationBenchmark {
+
+    private static final String FROM = "projects/archive/";
+    private static final String TO = "projects/backup/";
+
+    @Param({"1000", "100000"})
+    private int objectCount;
+
+    private final PathValidator pathValidator = new PathValidator();
+    private List<String> objectsNames;
+    private List<String> newObjectsNames;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        objectsNames = IntStream.range(0, objectCount)
+                .mapToObj(i -> "user-1-files/" + FROM + "folder-" + (i % 100) + "/file-" + i + ".bin")
+                .toList();
+        newObjectsNames = objectsNames.stream()
+                .map(objectName -> PathUtil.buildMovedFileKey(objectName, FROM, TO))
+                .toList();
+    }
+
+    @Benchmark
+    public List<String> buildNewObjectsNames() {
+        return objectsNames.stream()
+                .map(objectName -> PathUtil.buildMovedFileKey(objectName, FROM, TO))
+                .toList();
+    }
+
+    @Benchmark
+    public void validateNewObjectsNamesForCreating() {
+        pathValidator.validateNewObjectsNamesForCreating(objectsNames, newObjectsNames);
+    }
+}
@@ -0,0 +1,73 @@
+package com.mysite.cloudfilestorage.benchmark;
+
+import com.mysite.cloudfilestorage.util.PathUtil;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PathUtilBenchmark {
+
+    @Param({"2", "16"})
+    private int depth;
+
+    private String fileKey;
+    private String from;
+    private String to;
+    private String movedKey;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        String directories = IntStream.range(0, depth)
+                .mapToObj(i -> "folder-" + i + "/")
+                .collect(Collectors.joining());
+
+        fileKey = "user-1-files/" + directories + "report-final.pdf";
+        from = directories;
+        to = directories.substring(0, directories.length() - 1) + "-renamed/";
+        movedKey = "user-1-files/" + directories + "nested/report-final.pdf";
+    }
+
+    @Benchmark
+    public List<String> getSubKeys() {
+        return PathUtil.getSubKeys(fileKey, "folder");
+    }
+
+    @Benchmark
+    public String buildMovedFileKey() {
+        return PathUtil.buildMovedFileKey(movedKey, from, to);
+    }
+
+    @Benchmark
+    public String getNameForFile() {
+        return PathUtil.getNameForFile(fileKey);
+    }
+
+    @Benchmark
+    public boolean isMove() {
+        return PathUtil.isMove(from, to);
+    }
+
+    @Benchmark
+    public boolean isRename() {
+        return PathUtil.isRename(from, to);
+    }
+}
@@ -0,0 +1,61 @@
+package com.mysite.cloudfilestorage.benchmark;
+
+import com.mysite.cloudfilestorage.dto.ResourceResponse;
+import com.mysite.cloudfilestorage.dto.ResourceType;
+import com.mysite.cloudfilestorage.mapper.ResourceResponseMapperImpl;
+import com.mysite.cloudfilestorage.model.ResourceMetadata;
+import com.mysite.cloudfilestorage.service.resource.util.ResourceMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ResourceMapperBenchmark {
+
+    @Param({"100", "10000"})
+    private int resourceCount;
+
+    private ResourceMapper resourceMapper;
+    private List<ResourceMetadata> resources;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        resourceMapper = new ResourceMapper(new ResourceResponseMapperImpl());
+        resources = IntStream.range(0, resourceCount)
+                .mapToObj(i -> i % 10 == 0
+                        ? ResourceMetadata.builder()
+                                .path("user-1-files/projects/folder-" + i + "/")
+                                .name("folder-" + i)
+                                .type(ResourceType.DIRECTORY)
+                                .build()
+                        : ResourceMetadata.builder()
+                                .path("user-1-files/projects/file-" + i + ".txt")
+                                .name("file-" + i + ".txt")
+                                .type(ResourceType.FILE)
+                                .size((long) i * 1024)
+                                .build())
+                .toList();
+    }
+
+    @Benchmark
+    public List<ResourceResponse> toResourceResponses() {
+        return resourceMapper.toResourceResponses(resources);
+    }
+}
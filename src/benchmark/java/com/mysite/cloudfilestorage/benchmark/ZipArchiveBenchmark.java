@@ -0,0 +1,108 @@
+package com.mysite.cloudfilestorage.benchmark;
+
+import com.mysite.cloudfilestorage.config.minio.MinioProperties;
+import com.mysite.cloudfilestorage.config.storage.StorageProperties;
+import com.mysite.cloudfilestorage.dto.ArchiveEntry;
+import com.mysite.cloudfilestorage.service.minio.ZipArchiveWriter;
+import com.mysite.cloudfilestorage.service.storage.InMemoryObjectStore;
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.unit.DataSize;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ZipArchiveBenchmark {
+
+    @Param({"100", "1000"})
+    private int fileCount;
+
+    @Param({"1024", "65536", "2097152"})
+    private int objectSize;
+
+    @Param({"1", "8", "32"})
+    private int prefetchWindow;
+
+    @Param({"0", "2"})
+    private int latencyMillis;
+
+    private ExecutorService executor;
+    private ZipArchiveWriter zipArchiveWriter;
+    private InMemoryObjectStore objectStore;
+    private List<ArchiveEntry> entries;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        MinioProperties minioProperties = new MinioProperties();
+        minioProperties.getDownload().setPrefetchWindow(prefetchWindow);
+        minioProperties.getDownload().setPrefetchMemoryLimit(DataSize.ofMegabytes(16));
+        minioProperties.getDownload().setBufferedObjectMaxSize(DataSize.ofMegabytes(1));
+
+        executor = Executors.newFixedThreadPool(64);
+        zipArchiveWriter = new ZipArchiveWriter(executor, minioProperties);
+        entries = IntStream.range(0, fileCount)
+                .mapToObj(i -> new ArchiveEntry("user-1-files/folder/file-" + i, "folder/file-" + i, objectSize))
+                .toList();
+
+        StorageProperties storageProperties = new StorageProperties();
+        objectStore = new InMemoryObjectStore(storageProperties);
+        for (ArchiveEntry entry : entries) {
+            objectStore.put(entry.key(), new ByteArrayInputStream(new byte[objectSize]), (long) objectSize);
+        }
+        storageProperties.getMemory().setLatency(Duration.ofMillis(latencyMillis));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void writeArchive(Blackhole blackhole) throws Exception {
+        OutputStream outputStream = new BlackholeOutputStream(blackhole);
+        zipArchiveWriter.write(entries, objectStore::get, outputStream);
+    }
+
+    private static class BlackholeOutputStream extends OutputStream {
+
+        private final Blackhole blackhole;
+
+        BlackholeOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            blackhole.consume(bytes);
+            blackhole.consume(length);
+        }
+    }
+}
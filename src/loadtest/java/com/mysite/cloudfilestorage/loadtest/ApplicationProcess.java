@@ -0,0 +1,95 @@
+package com.mysite.cloudfilestorage.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public final class ApplicationProcess implements AutoCloseable {
+
+    private static final String MAIN_CLASS = "com.mysite.cloudfilestorage.CloudFileStorageApplication";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final Process process;
+    private final URI baseUrl;
+
+    private ApplicationProcess(Process process, URI baseUrl) {
+        this.process = process;
+        this.baseUrl = baseUrl;
+    }
+
+    public static ApplicationProcess start(String threads, LoadTestSettings settings) throws Exception {
+        Path log = settings.output().resolveSibling("loadtest-server-" + threads + ".log");
+        if (log.getParent() != null) {
+            Files.createDirectories(log.getParent());
+        }
+
+        Process process = new ProcessBuilder(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                MAIN_CLASS,
+                "--server.port=" + settings.port(),
+                "--spring.profiles.active=in-memory",
+                "--spring.threads.virtual.enabled=" + "virtual".equals(threads),
+                "--storage.memory.latency=" + settings.storageLatency().toMillis() + "ms"))
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+
+        ApplicationProcess application =
+                new ApplicationProcess(process, URI.create("http://localhost:" + settings.port()));
+        try {
+            application.awaitHealthy(log.toFile());
+        } catch (Exception exception) {
+            application.close();
+            throw exception;
+        }
+
+        return application;
+    }
+
+    public URI baseUrl() {
+        return baseUrl;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private void awaitHealthy(File log) throws Exception {
+        HttpClient httpClient = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve("/actuator/health"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("The application exited during startup, see " + log);
+            }
+
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ignored) {
+            }
+            Thread.sleep(500);
+        }
+
+        throw new IllegalStateException("The application did not become healthy in " + STARTUP_TIMEOUT
+                + ", see " + log);
+    }
+}
@@ -0,0 +1,40 @@
+package com.mysite.cloudfilestorage.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class BrowseScenario implements Scenario {
+
+    private static final int DIRECTORIES = 5;
+    private static final int FILES = 40;
+
+    @Override
+    public String name() {
+        return "browse";
+    }
+
+    @Override
+    public void prepare(LoadClient client, Random random) throws Exception {
+        client.createDirectory("browse/");
+        for (int i = 0; i < DIRECTORIES; i++) {
+            client.createDirectory("browse/folder-" + i + "/");
+        }
+
+        List<LoadClient.UploadFile> files = new ArrayList<>(FILES);
+        for (int i = 0; i < FILES; i++) {
+            files.add(new LoadClient.UploadFile("file-" + i + ".txt", Scenario.content(random, 4 * 1024)));
+        }
+        client.upload("browse/", files);
+    }
+
+    @Override
+    public void iterate(LoadClient client, Random random) throws Exception {
+        client.listDirectory("");
+        client.listDirectory("browse/");
+        client.listDirectory("browse/folder-" + random.nextInt(DIRECTORIES) + "/");
+        client.getResource("browse/file-" + random.nextInt(FILES) + ".txt");
+        client.getResource("browse/folder-" + random.nextInt(DIRECTORIES) + "/");
+        client.getUser();
+    }
+}
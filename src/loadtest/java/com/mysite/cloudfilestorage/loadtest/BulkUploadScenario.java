@@ -0,0 +1,35 @@
+package com.mysite.cloudfilestorage.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class BulkUploadScenario implements Scenario {
+
+    private static final int FILES_PER_BATCH = 20;
+    private static final int FILE_SIZE = 64 * 1024;
+
+    private int batch;
+
+    @Override
+    public String name() {
+        return "upload";
+    }
+
+    @Override
+    public void prepare(LoadClient client, Random random) throws Exception {
+        client.createDirectory("uploads/");
+    }
+
+    @Override
+    public void iterate(LoadClient client, Random random) throws Exception {
+        String path = "uploads/batch-" + batch++ + "/";
+        client.createDirectory(path);
+
+        List<LoadClient.UploadFile> files = new ArrayList<>(FILES_PER_BATCH);
+        for (int i = 0; i < FILES_PER_BATCH; i++) {
+            files.add(new LoadClient.UploadFile("file-" + i + ".bin", Scenario.content(random, FILE_SIZE)));
+        }
+        client.upload(path, files);
+    }
+}
@@ -0,0 +1,25 @@
+package com.mysite.cloudfilestorage.loadtest;
+
+import java.util.List;
+import java.util.Random;
+
+public class DownloadScenario implements Scenario {
+
+    private static final int FILE_SIZE = 1024 * 1024;
+
+    @Override
+    public String name() {
+        return "download";
+    }
+
+    @Override
+    public void prepare(LoadClient client, Random random) throws Exception {
+        client.createDirectory("download/");
+        client.upload("download/", List.of(new LoadClient.UploadFile("payload.bin", Scenario.content(random, FILE_SIZE))));
+    }
+
+    @Override
+    public void iterate(LoadClient client, Random random) throws Exception {
+        client.download("download/payload.bin");
+    }
+}
@@ -0,0 +1,164 @@
+package com.mysite.cloudfilestorage.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+
+public class LoadClient {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final URI baseUrl;
+    private final ConcurrentMap<String, EndpointStats> stats;
+    private String accessToken;
+    private boolean recording;
+
+    public LoadClient(URI baseUrl, ConcurrentMap<String, EndpointStats> stats) {
+        this.httpClient = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        this.baseUrl = baseUrl;
+        this.stats = stats;
+    }
+
+    public void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    public void signUp(String username, String password) throws Exception {
+        byte[] body = OBJECT_MAPPER.writeValueAsBytes(Map.of("username", username, "password", password));
+        HttpResponse<byte[]> response = send("POST /api/auth/sign-up", request("/api/auth/sign-up", Map.of())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body)));
+
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Sign-up failed with status " + response.statusCode());
+        }
+
+        JsonNode token = OBJECT_MAPPER.readTree(response.body()).get("accessToken");
+        if (token != null && !token.isNull()) {
+            accessToken = token.asText();
+        }
+    }
+
+    public void getUser() throws Exception {
+        send("GET /api/user/me", request("/api/user/me", Map.of()).GET());
+    }
+
+    public void listDirectory(String path) throws Exception {
+        send("GET /api/directory", request("/api/directory", Map.of("path", path)).GET());
+    }
+
+    public void createDirectory(String path) throws Exception {
+        send("POST /api/directory", request("/api/directory", Map.of("path", path))
+                .POST(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    public void getResource(String path) throws Exception {
+        send("GET /api/resource", request("/api/resource", Map.of("path", path)).GET());
+    }
+
+    public void search(String query) throws Exception {
+        send("GET /api/resource/search", request("/api/resource/search", Map.of("query", query)).GET());
+    }
+
+    public void move(String from, String to) throws Exception {
+        send("GET /api/resource/move", request("/api/resource/move", Map.of("from", from, "to", to)).GET());
+    }
+
+    public void download(String path) throws Exception {
+        HttpRequest request = request("/api/resource/download", Map.of("path", path)).GET().build();
+        long start = System.nanoTime();
+
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            long bytes;
+            try (InputStream inputStream = response.body()) {
+                bytes = inputStream.transferTo(OutputStream.nullOutputStream());
+            }
+            record("GET /api/resource/download", start, response.statusCode() >= 400, bytes);
+        } catch (IOException exception) {
+            record("GET /api/resource/download", start, true, 0);
+            throw exception;
+        }
+    }
+
+    public void upload(String path, List<UploadFile> files) throws Exception {
+        String boundary = UUID.randomUUID().toString();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        for (UploadFile file : files) {
+            body.write(("--" + boundary + "\r\n"
+                    + "Content-Disposition: form-data; name=\"resource\"; filename=\"" + file.name() + "\"\r\n"
+                    + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+            body.write(file.content());
+            body.write("\r\n".getBytes(StandardCharsets.UTF_8));
+        }
+        body.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        send("POST /api/resource", request("/api/resource", Map.of("path", path))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray())));
+    }
+
+    private HttpResponse<byte[]> send(String endpoint, HttpRequest.Builder builder) throws Exception {
+        long start = System.nanoTime();
+
+        try {
+            HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            record(endpoint, start, response.statusCode() >= 400, response.body().length);
+            return response;
+        } catch (IOException exception) {
+            record(endpoint, start, true, 0);
+            throw exception;
+        }
+    }
+
+    private void record(String endpoint, long start, boolean failed, long bytes) {
+        if (recording) {
+            stats.computeIfAbsent(endpoint, key -> new EndpointStats())
+                    .record(System.nanoTime() - start, failed, bytes);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, Map<String, String> query) {
+        StringBuilder uri = new StringBuilder(path);
+        String separator = "?";
+
+        for (Map.Entry<String, String> parameter : query.entrySet()) {
+            uri.append(separator)
+                    .append(parameter.getKey())
+                    .append('=')
+                    .append(URLEncoder.encode(parameter.getValue(), StandardCharsets.UTF_8));
+            separator = "&";
+        }
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(uri.toString()))
+                .timeout(Duration.ofMinutes(5));
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+
+        return builder;
+    }
+
+    public record UploadFile(String name, byte[] content) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.mysite.cloudfilestorage.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class LoadReport {
+
+    private final Map<String, Map<String, Object>> scenarios = new LinkedHashMap<>();
+    private final List<String> violations = new ArrayList<>();
+
+    public void add(String scenario, Duration elapsed, Map<String, EndpointStats> stats, LoadTestSettings settings) {
+        double seconds = elapsed.toNanos() / 1e9;
+        Map<String, Object> endpoints = new TreeMap<>();
+
+        System.out.printf("%nScenario %s (%.1fs)%n", scenario, seconds);
+        System.out.printf("%-32s %9s %9s %8s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "max ms");
+
+        new TreeMap<>(stats).forEach((endpoint, endpointStats) -> {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("requests", endpointStats.requests());
+            result.put("throughput", endpointStats.requests() / seconds);
+            result.put("errors", endpointStats.errors());
+            result.put("errorRate", endpointStats.errorRate());
+            result.put("bytes", endpointStats.bytes());
+            result.put("p50", endpointStats.percentileMillis(50));
+            result.put("p90", endpointStats.percentileMillis(90));
+            result.put("p99", endpointStats.percentileMillis(99));
+            result.put("max", endpointStats.maxMillis());
+            endpoints.put(endpoint, result);
+
+            System.out.printf("%-32s %9d %9.1f %7.2f%% %9.1f %9.1f %9.1f %9.1f%n",
+                    endpoint, endpointStats.requests(), endpointStats.requests() / seconds,
+                    endpointStats.errorRate() * 100, endpointStats.percentileMillis(50),
+                    endpointStats.percentileMillis(90), endpointStats.percentileMillis(99),
+                    endpointStats.maxMillis());
+
+            check(scenario, endpoint, endpointStats, settings);
+        });
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("durationSeconds", seconds);
+        result.put("endpoints", endpoints);
+        scenarios.put(scenario, result);
+    }
+
+    public List<String> violations() {
+        return violations;
+    }
+
+    public void write(Path output) throws IOException {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scenarios", scenarios);
+        report.put("violations", violations);
+
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(output.toFile(), report);
+    }
+
+    private void check(String scenario, String endpoint, EndpointStats stats, LoadTestSettings settings) {
+        if (stats.errorRate() > settings.maxErrorRate()) {
+            violations.add(String.format("%s %s: error rate %.2f%% exceeds %.2f%%",
+                    scenario, endpoint, stats.errorRate() * 100, settings.maxErrorRate() * 100));
+        }
+        if (settings.maxP99() != null && stats.percentileMillis(99) > settings.maxP99().toMillis()) {
+            violations.add(String.format("%s %s: p99 %.1fms exceeds %dms",
+                    scenario, endpoint, stats.percentileMillis(99), settings.maxP99().toMillis()));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.mysite.cloudfilestorage.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class LoadTest {
+
+    private static final String PASSWORD = "load-test-password";
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        LoadReport report = new LoadReport();
+
+        if (settings.launch().isEmpty()) {
+            System.out.printf("Load test against %s with %d users for %s per scenario (seed %d)%n",
+                    settings.baseUrl(), settings.users(), settings.duration(), settings.seed());
+
+            for (String scenarioName : settings.scenarios()) {
+                run(scenarioName, scenarioName, runId, settings.baseUrl(), settings, report);
+            }
+        }
+
+        for (String threads : settings.launch()) {
+            System.out.printf("Starting the application on the in-memory store with %s threads%n", threads);
+
+            try (ApplicationProcess application = ApplicationProcess.start(threads, settings)) {
+                System.out.printf("Load test against %s with %d users for %s per scenario (seed %d)%n",
+                        application.baseUrl(), settings.users(), settings.duration(), settings.seed());
+
+                for (String scenarioName : settings.scenarios()) {
+                    run(scenarioName, scenarioName + " [" + threads + " threads]", runId + threads.charAt(0),
+                            application.baseUrl(), settings, report);
+                }
+            }
+        }
+
+        report.write(settings.output());
+        System.out.printf("%nResults written to %s%n", settings.output().toAbsolutePath());
+
+        if (!report.violations().isEmpty()) {
+            report.violations().forEach(violation -> System.out.println("FAILED " + violation));
+            System.exit(1);
+        }
+    }
+
+    private static void run(String scenarioName, String label, String runId, URI baseUrl, LoadTestSettings settings,
+                            LoadReport report) throws Exception {
+        ConcurrentMap<String, EndpointStats> stats = new ConcurrentHashMap<>();
+        CountDownLatch prepared = new CountDownLatch(settings.users());
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicLong deadline = new AtomicLong();
+        List<Thread> users = new ArrayList<>(settings.users());
+        List<String> failures = Collections.synchronizedList(new ArrayList<>());
+
+        for (int user = 0; user < settings.users(); user++) {
+            Random random = new Random(settings.seed() * 31 + user);
+            Scenario scenario = Scenario.of(scenarioName);
+            LoadClient client = new LoadClient(baseUrl, stats);
+            String username = "lt-" + runId + "-" + scenarioName + "-" + user;
+
+            users.add(Thread.ofVirtual().start(() -> {
+                try {
+                    client.signUp(username, PASSWORD);
+                    scenario.prepare(client, random);
+                } catch (Exception exception) {
+                    failures.add(label + " " + username + ": preparation failed with " + exception);
+                    return;
+                } finally {
+                    prepared.countDown();
+                }
+
+                client.setRecording(true);
+                awaitQuietly(started);
+                while (System.nanoTime() < deadline.get()) {
+                    try {
+                        scenario.iterate(client, random);
+                    } catch (Exception exception) {
+                        if (exception instanceof InterruptedException) {
+                            return;
+                        }
+                    }
+                }
+            }));
+        }
+
+        prepared.await();
+        long start = System.nanoTime();
+        deadline.set(start + settings.duration().toNanos());
+        started.countDown();
+
+        for (Thread user : users) {
+            user.join();
+        }
+
+        report.add(label, Duration.ofNanos(System.nanoTime() - start), stats, settings);
+        report.violations().addAll(failures);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
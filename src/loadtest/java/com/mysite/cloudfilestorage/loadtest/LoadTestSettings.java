@@ -0,0 +1,36 @@
+package com.mysite.cloudfilestorage.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+public record LoadTestSettings(URI baseUrl, List<String> scenarios, int users, Duration duration, long seed,
+                               Path output, double maxErrorRate, Duration maxP99, List<String> launch, int port,
+                               Duration storageLatency) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        String maxP99 = System.getProperty("loadtest.maxP99", "");
+
+        return new LoadTestSettings(
+                URI.create(System.getProperty("loadtest.baseUrl", "http://localhost:8080")),
+                list(System.getProperty("loadtest.scenarios", "browse,upload,zip,download,rename,search")),
+                Integer.getInteger("loadtest.users", 16),
+                Duration.parse("PT" + System.getProperty("loadtest.duration", "60s")),
+                Long.getLong("loadtest.seed", 42L),
+                Path.of(System.getProperty("loadtest.output", "target/loadtest-result.json")),
+                Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0.01")),
+                maxP99.isBlank() ? null : Duration.parse("PT" + maxP99),
+                list(System.getProperty("loadtest.launch", "")),
+                Integer.getInteger("loadtest.port", 18080),
+                Duration.ofMillis(Long.getLong("loadtest.storageLatencyMillis", 50L)));
+    }
+
+    private static List<String> list(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,43 @@
+package com.mysite.cloudfilestorage.loadtest;
+
+import java.util.List;
+import java.util.Random;
+
+public class RenameScenario implements Scenario {
+
+    private static final int DEPTH = 8;
+    private static final int FILES_PER_LEVEL = 5;
+
+    private boolean renamed;
+
+    @Override
+    public String name() {
+        return "rename";
+    }
+
+    @Override
+    public void prepare(LoadClient client, Random random) throws Exception {
+        StringBuilder path = new StringBuilder("deep-a/");
+        client.createDirectory(path.toString());
+
+        for (int level = 0; level < DEPTH; level++) {
+            path.append("level-").append(level).append('/');
+            client.createDirectory(path.toString());
+
+            for (int i = 0; i < FILES_PER_LEVEL; i++) {
+                client.upload(path.toString(), List.of(
+                        new LoadClient.UploadFile("file-" + i + ".txt", Scenario.content(random, 1024))));
+            }
+        }
+    }
+
+    @Override
+    public void iterate(LoadClient client, Random random) throws Exception {
+        if (renamed) {
+            client.move("deep-b/", "deep-a/");
+        } else {
+            client.move("deep-a/", "deep-b/");
+        }
+        renamed = !renamed;
+    }
+}
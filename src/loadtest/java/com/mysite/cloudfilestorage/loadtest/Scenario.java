@@ -0,0 +1,30 @@
+package com.mysite.cloudfilestorage.loadtest;
+
+import java.util.Random;
+
+public interface Scenario {
+
+    String name();
+
+    void prepare(LoadClient client, Random random) throws Exception;
+
+    void iterate(LoadClient client, Random random) throws Exception;
+
+    static Scenario of(String name) {
+        return switch (name) {
+            case "browse" -> new BrowseScenario();
+            case "upload" -> new BulkUploadScenario();
+            case "zip" -> new ZipDownloadScenario();
+            case "download" -> new DownloadScenario();
+            case "rename" -> new RenameScenario();
+            case "search" -> new SearchScenario();
+            default -> throw new IllegalArgumentException("Unknown scenario " + name);
+        };
+    }
+
+    static byte[] content(Random random, int size) {
+        byte[] content = new byte[size];
+        random.nextBytes(content);
+        return content;
+    }
+}
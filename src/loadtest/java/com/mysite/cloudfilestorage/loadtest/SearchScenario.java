@@ -0,0 +1,39 @@
+package com.mysite.cloudfilestorage.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class SearchScenario implements Scenario {
+
+    private static final String[] WORDS = {
+            "invoice", "report", "photo", "draft", "budget", "contract", "backup", "notes", "slides", "archive"
+    };
+    private static final int FILES = 100;
+
+    @Override
+    public String name() {
+        return "search";
+    }
+
+    @Override
+    public void prepare(LoadClient client, Random random) throws Exception {
+        client.createDirectory("search/");
+        for (String word : WORDS) {
+            client.createDirectory("search/" + word + "-folder/");
+        }
+
+        List<LoadClient.UploadFile> files = new ArrayList<>(FILES);
+        for (int i = 0; i < FILES; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + "-" + WORDS[random.nextInt(WORDS.length)] + "-" + i;
+            files.add(new LoadClient.UploadFile(name + ".txt", Scenario.content(random, 512)));
+        }
+        client.upload("search/", files);
+    }
+
+    @Override
+    public void iterate(LoadClient client, Random random) throws Exception {
+        String word = WORDS[random.nextInt(WORDS.length)];
+        client.search(random.nextBoolean() ? word : word.substring(0, 3));
+    }
+}
@@ -0,0 +1,38 @@
+package com.mysite.cloudfilestorage.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class ZipDownloadScenario implements Scenario {
+
+    private static final int BATCHES = 10;
+    private static final int FILES_PER_BATCH = 50;
+    private static final int FILE_SIZE = 32 * 1024;
+
+    @Override
+    public String name() {
+        return "zip";
+    }
+
+    @Override
+    public void prepare(LoadClient client, Random random) throws Exception {
+        client.createDirectory("archive/");
+
+        for (int batch = 0; batch < BATCHES; batch++) {
+            String path = "archive/part-" + batch + "/";
+            client.createDirectory(path);
+
+            List<LoadClient.UploadFile> files = new ArrayList<>(FILES_PER_BATCH);
+            for (int i = 0; i < FILES_PER_BATCH; i++) {
+                files.add(new LoadClient.UploadFile("file-" + i + ".bin", Scenario.content(random, FILE_SIZE)));
+            }
+            client.upload(path, files);
+        }
+    }
+
+    @Override
+    public void iterate(LoadClient client, Random random) throws Exception {
+        client.download("archive/");
+    }
+}
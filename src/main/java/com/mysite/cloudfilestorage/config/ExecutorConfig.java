@@ -0,0 +1,66 @@
+package com.mysite.cloudfilestorage.config;
+
+import com.mysite.cloudfilestorage.config.minio.MinioProperties;
+import com.mysite.cloudfilestorage.service.resource.common.BoundedParallelExecutor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@RequiredArgsConstructor
+public class ExecutorConfig {
+
+    private final MinioProperties minioProperties;
+    private final Environment environment;
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService archivePrefetchExecutor() {
+        return Executors.newFixedThreadPool(
+                minioProperties.getDownload().getPrefetchThreads(),
+                threadFactory("archive-prefetch-"));
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService uploadExecutor() {
+        return Executors.newFixedThreadPool(
+                minioProperties.getUpload().getUploadThreads(),
+                threadFactory("object-upload-"));
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService copyExecutor() {
+        return Executors.newFixedThreadPool(
+                minioProperties.getMove().getCopyThreads(),
+                threadFactory("object-copy-"));
+    }
+
+    @Bean
+    public BoundedParallelExecutor uploadParallelExecutor() {
+        return new BoundedParallelExecutor(uploadExecutor(), () -> minioProperties.getUpload().getUploadParallelism());
+    }
+
+    @Bean
+    public BoundedParallelExecutor copyParallelExecutor() {
+        return new BoundedParallelExecutor(copyExecutor(), () -> minioProperties.getMove().getCopyParallelism());
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService transferExecutor() {
+        return Executors.newFixedThreadPool(
+                minioProperties.getTransfer().getFetchThreads(),
+                threadFactory("object-transfer-"));
+    }
+
+    private ThreadFactory threadFactory(String prefix) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Thread.ofVirtual().name(prefix, 0).factory();
+        }
+
+        return Thread.ofPlatform().name(prefix, 0).daemon(true).factory();
+    }
+}
@@ -1,19 +1,30 @@
 package com.mysite.cloudfilestorage.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.mysite.cloudfilestorage.config.security.TokenProperties;
+import com.mysite.cloudfilestorage.security.CachedCredentials;
+import com.mysite.cloudfilestorage.security.CachingAuthenticationProvider;
+import com.mysite.cloudfilestorage.security.TokenAuthenticationFilter;
+import com.mysite.cloudfilestorage.security.TokenLogoutHandler;
+import com.mysite.cloudfilestorage.security.TokenService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.logout.LogoutFilter;
 import org.springframework.security.web.authentication.logout.LogoutSuccessHandler;
 
 @Configuration
@@ -24,12 +35,17 @@ public class SecurityConfig {
     private final UserDetailsService userDetailsService;
     private final AuthenticationEntryPoint authenticationEntryPoint;
     private final LogoutSuccessHandler logoutSuccessHandler;
+    private final Cache<String, CachedCredentials> credentialsCache;
+    private final TokenProperties tokenProperties;
+    private final TokenService tokenService;
+    private final TokenLogoutHandler tokenLogoutHandler;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers(EndpointRequest.to("health")).permitAll()
                         .anyRequest().authenticated()
                 )
                 .logout(logout -> logout
@@ -37,22 +53,30 @@ public class SecurityConfig {
                         .deleteCookies("JSESSIONID")
                         .invalidateHttpSession(true)
                         .clearAuthentication(true)
+                        .addLogoutHandler(tokenLogoutHandler)
                         .logoutSuccessHandler(logoutSuccessHandler)
                 )
                 .httpBasic(hb -> hb.authenticationEntryPoint(authenticationEntryPoint))
-                .userDetailsService(userDetailsService)
+                .authenticationProvider(authenticationProvider())
                 .formLogin(AbstractHttpConfigurer::disable)
                 .csrf(AbstractHttpConfigurer::disable);
 
+        if (tokenProperties.isEnabled()) {
+            http
+                    .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                    .addFilterBefore(new TokenAuthenticationFilter(tokenService),
+                            LogoutFilter.class);
+        }
+
         return http.build();
     }
 
     @Bean
-    public DaoAuthenticationProvider daoAuthenticationProvider() {
+    public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider(userDetailsService);
         daoAuthenticationProvider.setPasswordEncoder(passwordEncoder());
 
-        return daoAuthenticationProvider;
+        return new CachingAuthenticationProvider(daoAuthenticationProvider, credentialsCache);
     }
 
     @Bean
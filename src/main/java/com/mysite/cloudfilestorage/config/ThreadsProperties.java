@@ -0,0 +1,16 @@
+package com.mysite.cloudfilestorage.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "threads")
+@Getter
+@Setter
+public class ThreadsProperties {
+    private boolean pinningDiagnostics = true;
+    private Duration pinningThreshold = Duration.ofMillis(20);
+}
@@ -0,0 +1,71 @@
+package com.mysite.cloudfilestorage.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final ThreadsProperties threadsProperties;
+    private final Environment environment;
+
+    private RecordingStream recordingStream;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!Threading.VIRTUAL.isActive(environment) || !threadsProperties.isPinningDiagnostics()
+                || recordingStream != null) {
+            return;
+        }
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(threadsProperties.getPinningThreshold())
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::report);
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    private void report(RecordedEvent event) {
+        StringBuilder stackTrace = new StringBuilder();
+
+        if (event.getStackTrace() != null) {
+            event.getStackTrace().getFrames()
+                    .stream()
+                    .limit(LOGGED_FRAMES)
+                    .map(RecordedFrame::getMethod)
+                    .forEach(method -> stackTrace.append(System.lineSeparator())
+                            .append("\tat ")
+                            .append(method.getType().getName())
+                            .append('.')
+                            .append(method.getName()));
+        }
+
+        log.warn("Virtual thread {} was pinned to its carrier for {} ms{}",
+                event.getThread() == null ? "?" : event.getThread().getJavaName(),
+                event.getDuration().toMillis(),
+                stackTrace);
+    }
+}
@@ -0,0 +1,77 @@
+package com.mysite.cloudfilestorage.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.mysite.cloudfilestorage.dto.StoredObject;
+import com.mysite.cloudfilestorage.model.ResourceMetadata;
+import com.mysite.cloudfilestorage.security.CachedCredentials;
+import com.mysite.cloudfilestorage.service.resource.index.ResourceCacheKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RequiredArgsConstructor
+public class CacheConfig {
+
+    private static final int ENTRY_OVERHEAD = 128;
+    private static final int STAT_OVERHEAD = 512;
+
+    private final CacheProperties cacheProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public Cache<ResourceCacheKey, Optional<ResourceMetadata>> resourceMetadataCache() {
+        Weigher<ResourceCacheKey, Optional<ResourceMetadata>> weigher = (key, resource) -> ENTRY_OVERHEAD
+                + 2 * key.key().length()
+                + resource.map(value -> 2 * (value.getParent().length() + value.getName().length()
+                        + (value.getEtag() == null ? 0 : value.getEtag().length())))
+                .orElse(0);
+
+        return monitor(buildCache(weigher), "resourceMetadata");
+    }
+
+    @Bean
+    public Cache<String, Long> resourceCacheGenerations() {
+        return Caffeine.newBuilder()
+                .expireAfterAccess(cacheProperties.getMetadata().getTtl())
+                .build();
+    }
+
+    @Bean
+    public Cache<String, StoredObject> objectStatCache() {
+        Weigher<String, StoredObject> weigher = (key, stat) -> STAT_OVERHEAD + 4 * key.length();
+
+        return monitor(buildCache(weigher), "objectStat");
+    }
+
+    @Bean
+    public Cache<String, CachedCredentials> credentialsCache() {
+        CacheProperties.Credentials settings = cacheProperties.getCredentials();
+
+        return monitor(Caffeine.newBuilder()
+                .maximumSize(settings.getMaxEntries())
+                .expireAfterWrite(settings.getTtl())
+                .recordStats()
+                .<String, CachedCredentials>build(), "credentials");
+    }
+
+    private <K, V> Cache<K, V> buildCache(Weigher<K, V> weigher) {
+        CacheProperties.Metadata settings = cacheProperties.getMetadata();
+
+        return Caffeine.newBuilder()
+                .maximumWeight(settings.getMaxSize().toBytes())
+                .weigher(weigher)
+                .expireAfterWrite(settings.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    private <K, V> Cache<K, V> monitor(Cache<K, V> cache, String name) {
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+}
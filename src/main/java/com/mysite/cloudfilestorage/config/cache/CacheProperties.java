@@ -0,0 +1,31 @@
+package com.mysite.cloudfilestorage.config.cache;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+@ConfigurationProperties(prefix = "cache")
+@Getter
+@Setter
+public class CacheProperties {
+    private Metadata metadata = new Metadata();
+    private Credentials credentials = new Credentials();
+
+    @Getter
+    @Setter
+    public static class Metadata {
+        private DataSize maxSize = DataSize.ofMegabytes(32);
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Credentials {
+        private long maxEntries = 10_000;
+        private Duration ttl = Duration.ofMinutes(1);
+    }
+}
@@ -1,21 +1,99 @@
 package com.mysite.cloudfilestorage.config.minio;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpMetricsEventListener;
+import io.minio.MinioAsyncClient;
 import io.minio.MinioClient;
+import io.minio.http.HttpUtils;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 @Configuration
+@ConditionalOnProperty(prefix = "storage", name = "backend", havingValue = "minio", matchIfMissing = true)
 @RequiredArgsConstructor
 public class MinioClientConfig {
 
+    private static final String METRICS_NAME = "minio";
+
     private final MinioProperties minioProperties;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public OkHttpClient minioHttpClient() {
+        MinioProperties.Http settings = minioProperties.getHttp();
+
+        Dispatcher dispatcher = Threading.VIRTUAL.isActive(environment)
+                ? new Dispatcher(Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name("minio-http-", 0).factory()))
+                : new Dispatcher();
+        dispatcher.setMaxRequests(settings.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(settings.getMaxRequestsPerHost());
+
+        ConnectionPool connectionPool = new ConnectionPool(
+                settings.getMaxIdleConnections(), settings.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS);
+
+        bindMetrics(dispatcher, connectionPool, settings.getMaxIdleConnections());
+
+        return HttpUtils.newDefaultHttpClient(
+                        settings.getConnectTimeout().toMillis(),
+                        settings.getWriteTimeout().toMillis(),
+                        settings.getReadTimeout().toMillis())
+                .newBuilder()
+                .dispatcher(dispatcher)
+                .connectionPool(connectionPool)
+                .eventListener(OkHttpMetricsEventListener.builder(meterRegistry, "minio.http.requests")
+                        .tags(Tags.of("client", METRICS_NAME))
+                        .build())
+                .protocols(settings.isHttp2()
+                        ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                        : List.of(Protocol.HTTP_1_1))
+                .build();
+    }
 
     @Bean
-    public MinioClient minioClient() {
+    public MinioClient minioClient(OkHttpClient minioHttpClient) {
         return MinioClient.builder()
                 .endpoint(minioProperties.getEndpoint())
                 .credentials(minioProperties.getAccessKey(), minioProperties.getSecretKey())
+                .httpClient(minioHttpClient)
                 .build();
     }
+
+    @Bean
+    public MinioAsyncClient minioAsyncClient(OkHttpClient minioHttpClient) {
+        return MinioAsyncClient.builder()
+                .endpoint(minioProperties.getEndpoint())
+                .credentials(minioProperties.getAccessKey(), minioProperties.getSecretKey())
+                .httpClient(minioHttpClient)
+                .build();
+    }
+
+    private void bindMetrics(Dispatcher dispatcher, ConnectionPool connectionPool, int maxIdleConnections) {
+        new OkHttpConnectionPoolMetrics(connectionPool, "okhttp.pool", Tags.of("client", METRICS_NAME),
+                maxIdleConnections).bindTo(meterRegistry);
+
+        Gauge.builder("okhttp.dispatcher.running", dispatcher, Dispatcher::runningCallsCount)
+                .tag("client", METRICS_NAME)
+                .description("Asynchronous calls currently executing")
+                .register(meterRegistry);
+        Gauge.builder("okhttp.dispatcher.queued", dispatcher, Dispatcher::queuedCallsCount)
+                .tag("client", METRICS_NAME)
+                .description("Asynchronous calls waiting for a free slot")
+                .register(meterRegistry);
+    }
 }
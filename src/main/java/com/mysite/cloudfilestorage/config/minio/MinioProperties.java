@@ -1,9 +1,11 @@
 package com.mysite.cloudfilestorage.config.minio;
 
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
 @Component
 @ConfigurationProperties(prefix = "minio")
@@ -14,4 +16,64 @@ public class MinioProperties {
     private String accessKey;
     private String secretKey;
     private String bucket;
+    private Download download = new Download();
+    private Upload upload = new Upload();
+    private Move move = new Move();
+    private Transfer transfer = new Transfer();
+    private Http http = new Http();
+
+    @Getter
+    @Setter
+    public static class Download {
+        private int prefetchWindow = 8;
+        private int prefetchThreads = 32;
+        private DataSize prefetchMemoryLimit = DataSize.ofMegabytes(16);
+        private DataSize bufferedObjectMaxSize = DataSize.ofMegabytes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Upload {
+        private DataSize partSize = DataSize.ofMegabytes(16);
+        private DataSize maxFileSize = DataSize.ofGigabytes(50);
+        private int uploadParallelism = 8;
+        private int uploadThreads = 64;
+        private DataSize minChunkSize = DataSize.ofMegabytes(5);
+        private DataSize maxChunkSize = DataSize.ofMegabytes(64);
+        private Duration sessionTtl = Duration.ofDays(1);
+        private Duration sessionSweepInterval = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Move {
+        private int copyParallelism = 16;
+        private int copyThreads = 64;
+        private DataSize multipartCopyThreshold = DataSize.ofMegabytes(256);
+        private DataSize copyPartSize = DataSize.ofMegabytes(128);
+        private int partCopyParallelism = 8;
+    }
+
+    @Getter
+    @Setter
+    public static class Transfer {
+        private boolean nonBlocking = false;
+        private DataSize windowSize = DataSize.ofKilobytes(256);
+        private DataSize memoryLimit = DataSize.ofMegabytes(256);
+        private int fetchThreads = 32;
+        private Duration timeout = Duration.ofHours(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Http {
+        private int maxIdleConnections = 64;
+        private Duration keepAlive = Duration.ofMinutes(5);
+        private int maxRequests = 256;
+        private int maxRequestsPerHost = 128;
+        private Duration connectTimeout = Duration.ofSeconds(10);
+        private Duration readTimeout = Duration.ofMinutes(5);
+        private Duration writeTimeout = Duration.ofMinutes(5);
+        private boolean http2 = false;
+    }
 }
@@ -0,0 +1,19 @@
+package com.mysite.cloudfilestorage.config.security;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "security.token")
+@Getter
+@Setter
+public class TokenProperties {
+    private boolean enabled = false;
+    private String secret;
+    private Duration accessTokenTtl = Duration.ofMinutes(15);
+    private Duration refreshTokenTtl = Duration.ofDays(7);
+    private Duration revocationSyncInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,39 @@
+package com.mysite.cloudfilestorage.config.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.mysite.cloudfilestorage.dto.StoredObject;
+import com.mysite.cloudfilestorage.service.storage.CachingObjectStore;
+import com.mysite.cloudfilestorage.service.storage.MeteredObjectStore;
+import com.mysite.cloudfilestorage.service.storage.ObjectStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ObjectStoreMetricsPostProcessor implements BeanPostProcessor {
+
+    private static final String MINIO_BACKEND = "minio";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<StorageProperties> storageProperties;
+    private final ObjectProvider<Cache<String, StoredObject>> objectStatCache;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ObjectStore objectStore
+                && !(bean instanceof MeteredObjectStore)
+                && !(bean instanceof CachingObjectStore)) {
+            String backend = storageProperties.getObject().getBackend();
+            ObjectStore meteredObjectStore = new MeteredObjectStore(objectStore, meterRegistry.getObject(), backend);
+
+            if (MINIO_BACKEND.equals(backend)) {
+                return new CachingObjectStore(meteredObjectStore, objectStatCache.getObject());
+            }
+            return meteredObjectStore;
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,31 @@
+package com.mysite.cloudfilestorage.config.storage;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "storage")
+@Getter
+@Setter
+public class StorageProperties {
+    private String backend = "minio";
+    private Local local = new Local();
+    private Memory memory = new Memory();
+
+    @Getter
+    @Setter
+    public static class Local {
+        private String root = "./data/storage";
+    }
+
+    @Getter
+    @Setter
+    public static class Memory {
+        private Duration latency = Duration.ZERO;
+        private Duration latencyJitter = Duration.ZERO;
+        private double failureRate = 0;
+    }
+}
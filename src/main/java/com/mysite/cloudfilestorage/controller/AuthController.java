@@ -2,6 +2,7 @@ package com.mysite.cloudfilestorage.controller;
 
 import com.mysite.cloudfilestorage.dto.AuthRequest;
 import com.mysite.cloudfilestorage.dto.AuthResponse;
+import com.mysite.cloudfilestorage.dto.RefreshRequest;
 import com.mysite.cloudfilestorage.security.AuthService;
 import com.mysite.cloudfilestorage.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,17 +26,20 @@ public class AuthController {
     @PostMapping("/sign-up")
     @ResponseStatus(HttpStatus.CREATED)
     public AuthResponse register(@RequestBody @Valid AuthRequest authRequest, HttpServletRequest request) {
-        AuthResponse register = userService.register(authRequest);
-        authService.auth(authRequest, request);
+        userService.register(authRequest);
 
-        return register;
+        return authService.auth(authRequest, request);
     }
 
     @PostMapping("/sign-in")
     @ResponseStatus(HttpStatus.OK)
     public AuthResponse login(@RequestBody @Valid AuthRequest authRequest, HttpServletRequest request) {
-        authService.auth(authRequest, request);
+        return authService.auth(authRequest, request);
+    }
 
-        return new AuthResponse(authRequest.getUsername());
+    @PostMapping("/refresh")
+    @ResponseStatus(HttpStatus.OK)
+    public AuthResponse refresh(@RequestBody @Valid RefreshRequest refreshRequest) {
+        return authService.refresh(refreshRequest.getRefreshToken());
     }
 }
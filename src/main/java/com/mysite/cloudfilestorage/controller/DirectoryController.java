@@ -1,28 +1,57 @@
 package com.mysite.cloudfilestorage.controller;
 
+import com.mysite.cloudfilestorage.dto.ResourcePage;
 import com.mysite.cloudfilestorage.dto.ResourceResponse;
+import com.mysite.cloudfilestorage.dto.ResourceVersion;
 import com.mysite.cloudfilestorage.service.ResourceService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/directory")
 @RequiredArgsConstructor
 public class DirectoryController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String DEFAULT_PAGE_SIZE = "200";
+
     private final ResourceService resourceService;
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public List<ResourceResponse> getResourceForDirectory(@RequestParam(name = "path", defaultValue = "") String path) throws Exception {
-        return resourceService.getResourceForDirectory(path);
+    public ResponseEntity<List<ResourceResponse>> getResourceForDirectory(
+            @RequestParam(name = "path", defaultValue = "") String path,
+            @RequestParam(name = "limit", defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            WebRequest webRequest) throws Exception {
+        ResourceVersion version = resourceService.getDirectoryVersion(path, limit, cursor);
+
+        if (webRequest.checkNotModified(version.etag(), version.lastModified().toEpochMilli())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(version.etag())
+                    .lastModified(version.lastModified())
+                    .build();
+        }
+
+        ResourcePage page = resourceService.getResourceForDirectory(path, limit, cursor);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(version.etag())
+                .lastModified(version.lastModified());
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+
+        return response.body(page.resources());
     }
 
     @PostMapping
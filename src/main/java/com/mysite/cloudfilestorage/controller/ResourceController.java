@@ -2,10 +2,16 @@ package com.mysite.cloudfilestorage.controller;
 
 import com.mysite.cloudfilestorage.dto.DownloadResult;
 import com.mysite.cloudfilestorage.dto.ResourceResponse;
+import com.mysite.cloudfilestorage.dto.ResourceVersion;
 import com.mysite.cloudfilestorage.service.ResourceService;
+import com.mysite.cloudfilestorage.service.transfer.TransferGateway;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.InputStreamResource;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -13,11 +19,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequestMapping("/api/resource")
@@ -25,11 +35,25 @@ import org.springframework.web.multipart.MultipartFile;
 public class ResourceController {
 
     private final ResourceService resourceService;
+    private final TransferGateway transferGateway;
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public ResourceResponse getResource(@RequestParam(name = "path", defaultValue = "") String path) throws Exception {
-        return resourceService.getResource(path);
+    public ResponseEntity<ResourceResponse> getResource(@RequestParam(name = "path", defaultValue = "") String path,
+                                                        WebRequest webRequest) throws Exception {
+        ResourceVersion version = resourceService.getResourceVersion(path);
+
+        if (webRequest.checkNotModified(version.etag(), version.lastModified().toEpochMilli())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(version.etag())
+                    .lastModified(version.lastModified())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(version.etag())
+                .lastModified(version.lastModified())
+                .body(resourceService.getResource(path));
     }
 
     @DeleteMapping
@@ -39,16 +63,30 @@ public class ResourceController {
     }
 
     @GetMapping("/download")
-    @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<InputStreamResource> downloadResource(@RequestParam(name = "path", defaultValue = "") String path)
-            throws Exception {
-        DownloadResult downloadResult = resourceService.downloadResource(path);
+    public ResponseEntity<StreamingResponseBody> downloadResource(
+            @RequestParam(name = "path", defaultValue = "") String path,
+            @RequestHeader HttpHeaders requestHeaders,
+            HttpServletRequest request,
+            HttpServletResponse response) throws Exception {
+        DownloadResult downloadResult = resourceService.downloadResource(path, requestHeaders);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(downloadResult.headers());
+        if (headers.getContentType() == null) {
+            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        }
 
         String headerValue = "attachment; filename=\"" + downloadResult.fileName() + "\"";
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, headerValue)
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(new InputStreamResource(downloadResult.inputStream()));
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, headerValue);
+
+        if (downloadResult.segments() != null && transferGateway.supports(request, downloadResult.segments())) {
+            transferGateway.send(request, response, downloadResult.status(), headers, downloadResult.segments());
+            return null;
+        }
+
+        return ResponseEntity.status(downloadResult.status())
+                .headers(headers)
+                .body(downloadResult.body());
     }
 
     @GetMapping("/move")
@@ -61,8 +99,11 @@ public class ResourceController {
 
     @GetMapping("/search")
     @ResponseStatus(HttpStatus.OK)
-    public List<ResourceResponse> searchResource(@RequestParam("query") String query) throws Exception {
-        return resourceService.searchResource(query);
+    public List<ResourceResponse> searchResource(@RequestParam("query") String query,
+                                                 @RequestParam(name = "limit", defaultValue = "100") int limit,
+                                                 @RequestParam(name = "offset", defaultValue = "0") int offset)
+            throws Exception {
+        return resourceService.searchResource(query, limit, offset);
     }
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -71,4 +112,20 @@ public class ResourceController {
                                                  @RequestParam("resource") List<MultipartFile> resource) throws Exception {
         return resourceService.uploadResource(path, resource);
     }
+
+    @PostMapping(path = "/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<ResourceResponse> uploadResourceStream(HttpServletRequest request) throws Exception {
+        String path = getQueryParameter(request, "path");
+        return resourceService.uploadResource(path, new JakartaServletFileUpload<>().getItemIterator(request));
+    }
+
+    private static String getQueryParameter(HttpServletRequest request, String name) {
+        String value = ServletUriComponentsBuilder.fromRequest(request)
+                .build()
+                .getQueryParams()
+                .getFirst(name);
+
+        return value == null ? "" : URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
 }
@@ -0,0 +1,65 @@
+package com.mysite.cloudfilestorage.controller;
+
+import com.mysite.cloudfilestorage.dto.ResourceResponse;
+import com.mysite.cloudfilestorage.dto.UploadSessionResponse;
+import com.mysite.cloudfilestorage.service.ResourceService;
+import com.mysite.cloudfilestorage.service.transfer.TransferGateway;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+@RestController
+@RequestMapping("/api/resource/upload-sessions")
+@RequiredArgsConstructor
+public class UploadSessionController {
+
+    private final ResourceService resourceService;
+    private final TransferGateway transferGateway;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public UploadSessionResponse createUploadSession(@RequestParam("path") String path) throws Exception {
+        return resourceService.createUploadSession(path);
+    }
+
+    @GetMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public UploadSessionResponse getUploadSession(@PathVariable("id") UUID id) throws Exception {
+        return resourceService.getUploadSession(id);
+    }
+
+    @PutMapping("/{id}/chunks/{number}")
+    public DeferredResult<ResponseEntity<Void>> uploadChunk(@PathVariable("id") UUID id,
+                                                            @PathVariable("number") int number,
+                                                            HttpServletRequest request) throws Exception {
+        long size = request.getContentLengthLong();
+        resourceService.validateChunk(id, number, size);
+
+        return transferGateway.receive(request, size,
+                inputStream -> resourceService.uploadChunk(id, number, inputStream, size));
+    }
+
+    @PostMapping("/{id}/complete")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ResourceResponse completeUploadSession(@PathVariable("id") UUID id) throws Exception {
+        return resourceService.completeUploadSession(id);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void abortUploadSession(@PathVariable("id") UUID id) throws Exception {
+        resourceService.abortUploadSession(id);
+    }
+}
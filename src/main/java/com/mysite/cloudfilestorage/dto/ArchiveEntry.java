@@ -0,0 +1,4 @@
+package com.mysite.cloudfilestorage.dto;
+
+public record ArchiveEntry(String key, String name, long size) {
+}
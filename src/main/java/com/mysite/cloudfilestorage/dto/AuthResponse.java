@@ -1,10 +1,21 @@
 package com.mysite.cloudfilestorage.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class AuthResponse {
     private String username;
+    private String accessToken;
+    private String refreshToken;
+    private Long expiresIn;
+
+    public AuthResponse(String username) {
+        this.username = username;
+    }
 }
@@ -0,0 +1,28 @@
+package com.mysite.cloudfilestorage.dto;
+
+import com.mysite.cloudfilestorage.exception.minio.InvalidQueryException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record DirectoryCursor(ResourceType type, String name) {
+
+    private static final String SEPARATOR = "/";
+
+    public String encode() {
+        String value = type.name() + SEPARATOR + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static DirectoryCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = value.indexOf(SEPARATOR);
+
+            return new DirectoryCursor(
+                    ResourceType.valueOf(value.substring(0, separatorIndex)),
+                    value.substring(separatorIndex + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+            throw new InvalidQueryException("Invalid cursor");
+        }
+    }
+}
@@ -1,6 +1,18 @@
 package com.mysite.cloudfilestorage.dto;
 
-import java.io.InputStream;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-public record DownloadResult(String fileName, InputStream inputStream) {
+public record DownloadResult(String fileName, HttpStatus status, HttpHeaders headers, StreamingResponseBody body,
+                             List<TransferSegment> segments) {
+
+    public DownloadResult(String fileName, HttpStatus status, HttpHeaders headers, StreamingResponseBody body) {
+        this(fileName, status, headers, body, null);
+    }
+
+    public DownloadResult(String fileName, StreamingResponseBody body) {
+        this(fileName, HttpStatus.OK, new HttpHeaders(), body);
+    }
 }
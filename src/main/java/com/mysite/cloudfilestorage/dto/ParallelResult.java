@@ -0,0 +1,10 @@
+package com.mysite.cloudfilestorage.dto;
+
+import java.util.Map;
+
+public record ParallelResult<R>(Map<String, R> completed, Map<String, Exception> failedKeys) {
+
+    public boolean hasFailures() {
+        return !failedKeys.isEmpty();
+    }
+}
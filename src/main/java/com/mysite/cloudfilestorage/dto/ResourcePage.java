@@ -0,0 +1,6 @@
+package com.mysite.cloudfilestorage.dto;
+
+import java.util.List;
+
+public record ResourcePage(List<ResourceResponse> resources, String nextCursor) {
+}
@@ -0,0 +1,6 @@
+package com.mysite.cloudfilestorage.dto;
+
+import java.time.Instant;
+
+public record StoredObject(String key, long size, String etag, Instant lastModified) {
+}
@@ -0,0 +1,4 @@
+package com.mysite.cloudfilestorage.dto;
+
+public record StoredPart(int partNumber, String etag, long size) {
+}
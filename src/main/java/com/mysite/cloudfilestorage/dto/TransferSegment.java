@@ -0,0 +1,16 @@
+package com.mysite.cloudfilestorage.dto;
+
+public record TransferSegment(String key, long offset, long length, byte[] bytes) {
+
+    public static TransferSegment object(String key, long offset, long length) {
+        return new TransferSegment(key, offset, length, null);
+    }
+
+    public static TransferSegment bytes(byte[] bytes) {
+        return new TransferSegment(null, 0, bytes.length, bytes);
+    }
+
+    public boolean isObject() {
+        return bytes == null;
+    }
+}
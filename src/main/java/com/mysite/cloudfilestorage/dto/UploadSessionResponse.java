@@ -0,0 +1,17 @@
+package com.mysite.cloudfilestorage.dto;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class UploadSessionResponse {
+    private UUID id;
+    private String path;
+    private List<Integer> uploadedChunks;
+    private Long uploadedSize;
+}
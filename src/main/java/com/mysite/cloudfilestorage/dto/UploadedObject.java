@@ -0,0 +1,4 @@
+package com.mysite.cloudfilestorage.dto;
+
+public record UploadedObject(String key, long size, String etag) {
+}
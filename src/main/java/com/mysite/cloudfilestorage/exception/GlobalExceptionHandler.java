@@ -9,6 +9,9 @@ import com.mysite.cloudfilestorage.exception.minio.InvalidRequestBodyException;
 import com.mysite.cloudfilestorage.exception.minio.ParentDirectoryIsNotFoundException;
 import com.mysite.cloudfilestorage.exception.minio.ResourceAlreadyExistsException;
 import com.mysite.cloudfilestorage.exception.minio.ResourceIsNotFoundException;
+import com.mysite.cloudfilestorage.exception.minio.ResourceMoveFailedException;
+import com.mysite.cloudfilestorage.exception.minio.ResourceTooLargeException;
+import com.mysite.cloudfilestorage.exception.minio.ResourceUploadFailedException;
 import java.util.Objects;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.AuthenticationException;
@@ -33,8 +36,8 @@ public class GlobalExceptionHandler {
     }
 
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
-    @ExceptionHandler(UserIsNotExistsException.class)
-    public ErrorMessageResponse handleUserIsNotExists(UserIsNotExistsException ex) {
+    @ExceptionHandler({UserIsNotExistsException.class, InvalidTokenException.class})
+    public ErrorMessageResponse handleUserIsNotExists(RuntimeException ex) {
         return new ErrorMessageResponse(ex.getMessage());
     }
 
@@ -51,6 +54,18 @@ public class GlobalExceptionHandler {
         return new ErrorMessageResponse(ex.getMessage());
     }
 
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    @ExceptionHandler(ResourceTooLargeException.class)
+    public ErrorMessageResponse handleResourceTooLarge(ResourceTooLargeException ex) {
+        return new ErrorMessageResponse(ex.getMessage());
+    }
+
+    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+    @ExceptionHandler({ResourceMoveFailedException.class, ResourceUploadFailedException.class})
+    public ErrorMessageResponse handleResourceOperationFailed(Exception ex) {
+        return new ErrorMessageResponse(ex.getMessage());
+    }
+
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ExceptionHandler(Exception.class)
     public ErrorMessageResponse handleOtherExceptions(Exception ex) {
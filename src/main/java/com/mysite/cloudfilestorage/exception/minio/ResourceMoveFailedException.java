@@ -0,0 +1,7 @@
+package com.mysite.cloudfilestorage.exception.minio;
+
+public class ResourceMoveFailedException extends RuntimeException {
+    public ResourceMoveFailedException(String message) {
+        super(message);
+    }
+}
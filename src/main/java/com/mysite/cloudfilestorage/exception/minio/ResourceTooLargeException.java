@@ -0,0 +1,7 @@
+package com.mysite.cloudfilestorage.exception.minio;
+
+public class ResourceTooLargeException extends RuntimeException {
+    public ResourceTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.mysite.cloudfilestorage.exception.minio;
+
+public class ResourceUploadFailedException extends RuntimeException {
+    public ResourceUploadFailedException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +1,9 @@
 package com.mysite.cloudfilestorage.model;
 
+import com.mysite.cloudfilestorage.security.UserCredentialsListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -14,6 +16,7 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserCredentialsListener.class)
 @Getter
 @Setter
 @Builder
@@ -0,0 +1,103 @@
+package com.mysite.cloudfilestorage.repository;
+
+import com.mysite.cloudfilestorage.model.ResourceMetadata;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ResourceMetadataRepository extends JpaRepository<ResourceMetadata, Long> {
+
+    Optional<ResourceMetadata> findByPath(String path);
+
+    boolean existsByPath(String path);
+
+    boolean existsByParent(String parent);
+
+    @Query(nativeQuery = true, value = """
+            SELECT * FROM resources
+            WHERE parent = :parent
+              AND (type, name) > (:type, :name)
+            ORDER BY type, name
+            LIMIT :limit
+            """)
+    List<ResourceMetadata> findChildrenAfter(@Param("parent") String parent,
+                                             @Param("type") String type,
+                                             @Param("name") String name,
+                                             @Param("limit") int limit);
+
+    List<ResourceMetadata> findByPathIn(Collection<String> paths);
+
+    @Query("SELECT r.path FROM ResourceMetadata r WHERE r.path IN :paths")
+    List<String> findExistingPaths(@Param("paths") Collection<String> paths);
+
+    List<ResourceMetadata> findByPathStartingWith(String prefix);
+
+    @Query(nativeQuery = true, value = """
+            SELECT * FROM resources
+            WHERE user_id = :userId
+              AND parent <> ''
+              AND name LIKE :pattern ESCAPE '\\'
+            ORDER BY CASE
+                         WHEN name = :query THEN 0
+                         WHEN name LIKE :prefixPattern ESCAPE '\\' THEN 1
+                         ELSE 2
+                     END,
+                     similarity(name, :query) DESC,
+                     path
+            LIMIT :limit OFFSET :offset
+            """)
+    List<ResourceMetadata> searchByName(@Param("userId") Long userId,
+                                        @Param("query") String query,
+                                        @Param("pattern") String pattern,
+                                        @Param("prefixPattern") String prefixPattern,
+                                        @Param("limit") int limit,
+                                        @Param("offset") int offset);
+
+    @Query(nativeQuery = true, value = """
+            SELECT * FROM resources
+            WHERE user_id = :userId
+              AND parent <> ''
+              AND name LIKE :prefixPattern ESCAPE '\\'
+            ORDER BY name <> :query,
+                     name,
+                     path
+            LIMIT :limit OFFSET :offset
+            """)
+    List<ResourceMetadata> searchByNamePrefix(@Param("userId") Long userId,
+                                              @Param("query") String query,
+                                              @Param("prefixPattern") String prefixPattern,
+                                              @Param("limit") int limit,
+                                              @Param("offset") int offset);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ResourceMetadata r where r.path like :pattern escape '\\'")
+    int deleteByPathPattern(@Param("pattern") String pattern);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ResourceMetadata r SET r.modifiedAt = :modifiedAt "
+            + "WHERE r.path IN :paths AND r.type = com.mysite.cloudfilestorage.dto.ResourceType.DIRECTORY")
+    int touchDirectories(@Param("paths") Collection<String> paths, @Param("modifiedAt") Instant modifiedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(nativeQuery = true, value = """
+            UPDATE resources
+            SET path = :newPrefix || substr(path, char_length(:oldPrefix) + 1),
+                parent = CASE WHEN path = :oldPrefix THEN :newParent
+                              ELSE :newPrefix || substr(parent, char_length(:oldPrefix) + 1) END,
+                name = CASE WHEN path = :oldPrefix THEN :newName ELSE name END,
+                modified_at = now()
+            WHERE path LIKE :pattern ESCAPE '\\'
+            """)
+    int movePaths(@Param("pattern") String pattern,
+                  @Param("oldPrefix") String oldPrefix,
+                  @Param("newPrefix") String newPrefix,
+                  @Param("newParent") String newParent,
+                  @Param("newName") String newName);
+}
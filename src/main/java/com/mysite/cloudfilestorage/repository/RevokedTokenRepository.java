@@ -0,0 +1,23 @@
+package com.mysite.cloudfilestorage.repository;
+
+import com.mysite.cloudfilestorage.model.RevokedToken;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, UUID> {
+
+    List<RevokedToken> findByRevokedAtAfter(Instant revokedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken token WHERE token.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
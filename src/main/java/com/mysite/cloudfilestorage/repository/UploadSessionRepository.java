@@ -0,0 +1,17 @@
+package com.mysite.cloudfilestorage.repository;
+
+import com.mysite.cloudfilestorage.model.UploadSession;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, UUID> {
+
+    Optional<UploadSession> findByIdAndUserId(UUID id, Long userId);
+
+    List<UploadSession> findTop100ByCreatedAtBeforeOrderByCreatedAt(Instant createdAt);
+}
@@ -1,7 +1,12 @@
 package com.mysite.cloudfilestorage.security;
 
+import com.mysite.cloudfilestorage.config.security.TokenProperties;
 import com.mysite.cloudfilestorage.dto.AuthRequest;
+import com.mysite.cloudfilestorage.dto.AuthResponse;
+import com.mysite.cloudfilestorage.exception.InvalidTokenException;
 import com.mysite.cloudfilestorage.exception.UserIsNotExistsException;
+import com.mysite.cloudfilestorage.model.User;
+import com.mysite.cloudfilestorage.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
@@ -19,8 +24,11 @@ import org.springframework.stereotype.Service;
 public class AuthService {
 
     private final AuthenticationManager authenticationManager;
+    private final TokenProperties tokenProperties;
+    private final TokenService tokenService;
+    private final UserRepository userRepository;
 
-    public void auth(AuthRequest authRequest, HttpServletRequest request) {
+    public AuthResponse auth(AuthRequest authRequest, HttpServletRequest request) {
         UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
                 new UsernamePasswordAuthenticationToken(authRequest.getUsername(), authRequest.getPassword());
 
@@ -32,6 +40,12 @@ public class AuthService {
             throw new UserIsNotExistsException("There is no such user, or the password is incorrect");
         }
 
+        if (tokenProperties.isEnabled()) {
+            UserPrincipal principal = (UserPrincipal) authenticate.getPrincipal();
+            return toAuthResponse(tokenService.issue(principal.getUser().getId(), principal.getUsername()),
+                    principal.getUsername());
+        }
+
         SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
         securityContext.setAuthentication(authenticate);
 
@@ -39,5 +53,27 @@ public class AuthService {
 
         HttpSession session = request.getSession(true);
         session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, securityContext);
+
+        return new AuthResponse(authRequest.getUsername());
+    }
+
+    public AuthResponse refresh(String refreshToken) {
+        if (!tokenProperties.isEnabled()) {
+            throw new InvalidTokenException("Token authentication is disabled");
+        }
+
+        TokenClaims claims = tokenService.verify(refreshToken, TokenType.REFRESH)
+                .orElseThrow(() -> new InvalidTokenException("The refresh token is invalid or expired"));
+
+        User user = userRepository.findById(claims.userId())
+                .orElseThrow(() -> new InvalidTokenException("The refresh token is invalid or expired"));
+
+        tokenService.revoke(claims);
+
+        return toAuthResponse(tokenService.issue(user.getId(), user.getUsername()), user.getUsername());
+    }
+
+    private AuthResponse toAuthResponse(IssuedTokens tokens, String username) {
+        return new AuthResponse(username, tokens.accessToken(), tokens.refreshToken(), tokens.expiresIn());
     }
 }
@@ -0,0 +1,4 @@
+package com.mysite.cloudfilestorage.security;
+
+public record CachedCredentials(byte[] digest, UserPrincipal principal) {
+}
@@ -0,0 +1,83 @@
+package com.mysite.cloudfilestorage.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final AuthenticationProvider delegate;
+    private final Cache<String, CachedCredentials> credentialsCache;
+    private final SecretKeySpec digestKey;
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate,
+                                         Cache<String, CachedCredentials> credentialsCache) {
+        this.delegate = delegate;
+        this.credentialsCache = credentialsCache;
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.digestKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String username = authentication.getName();
+        Object credentials = authentication.getCredentials();
+
+        if (username == null || !(credentials instanceof String password)) {
+            return delegate.authenticate(authentication);
+        }
+
+        byte[] digest = digest(username, password);
+        CachedCredentials cachedCredentials = credentialsCache.getIfPresent(username);
+
+        if (cachedCredentials != null && MessageDigest.isEqual(cachedCredentials.digest(), digest)) {
+            return authenticated(cachedCredentials.principal(), authentication);
+        }
+
+        Authentication result = delegate.authenticate(authentication);
+
+        if (result != null && result.getPrincipal() instanceof UserPrincipal principal) {
+            credentialsCache.put(username, new CachedCredentials(digest, principal));
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    private Authentication authenticated(UserPrincipal principal, Authentication authentication) {
+        UsernamePasswordAuthenticationToken token = UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities());
+        token.setDetails(authentication.getDetails());
+
+        return token;
+    }
+
+    private byte[] digest(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(digestKey);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("Unable to digest credentials", exception);
+        }
+    }
+}
@@ -10,10 +10,14 @@ public class CurrentUserProvider {
     public UserPrincipal getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal)) {
-            throw new AccessDeniedException("No authenticated user");
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
         }
 
-        return (UserPrincipal) authentication.getPrincipal();
+        throw new AccessDeniedException("No authenticated user");
+    }
+
+    public Long getCurrentUserId() {
+        return getCurrentUser().getUser().getId();
     }
 }
@@ -0,0 +1,4 @@
+package com.mysite.cloudfilestorage.security;
+
+public record IssuedTokens(String accessToken, String refreshToken, long expiresIn) {
+}
@@ -0,0 +1,7 @@
+package com.mysite.cloudfilestorage.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record TokenClaims(TokenType type, UUID id, Long userId, String username, Instant expiresAt) {
+}
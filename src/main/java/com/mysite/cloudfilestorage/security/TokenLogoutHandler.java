@@ -0,0 +1,22 @@
+package com.mysite.cloudfilestorage.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TokenLogoutHandler implements LogoutHandler {
+
+    private final TokenService tokenService;
+
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        if (authentication != null && authentication.getCredentials() instanceof TokenClaims claims) {
+            tokenService.revoke(claims);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.mysite.cloudfilestorage.security;
+
+import com.mysite.cloudfilestorage.config.security.TokenProperties;
+import com.mysite.cloudfilestorage.model.RevokedToken;
+import com.mysite.cloudfilestorage.repository.RevokedTokenRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenProperties tokenProperties;
+
+    private final Map<UUID, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public void revoke(UUID id, Instant expiresAt) {
+        revokedTokens.put(id, expiresAt);
+        revokedTokenRepository.save(RevokedToken.builder()
+                .id(id)
+                .revokedAt(Instant.now())
+                .expiresAt(expiresAt)
+                .build());
+    }
+
+    public boolean isRevoked(UUID id) {
+        return revokedTokens.containsKey(id);
+    }
+
+    @Scheduled(fixedDelayString = "${security.token.revocation-sync-interval:5s}")
+    public void sync() {
+        if (!tokenProperties.isEnabled()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+
+        for (RevokedToken revokedToken : revokedTokenRepository.findByRevokedAtAfter(lastSync.minus(SYNC_OVERLAP))) {
+            revokedTokens.put(revokedToken.getId(), revokedToken.getExpiresAt());
+        }
+        lastSync = now;
+
+        revokedTokens.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        revokedTokenRepository.deleteExpired(now);
+    }
+}
@@ -0,0 +1,135 @@
+package com.mysite.cloudfilestorage.security;
+
+import com.mysite.cloudfilestorage.config.security.TokenProperties;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TokenService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final TokenProperties tokenProperties;
+    private final TokenRevocationService tokenRevocationService;
+    private final SecretKeySpec signingKey;
+
+    public TokenService(TokenProperties tokenProperties, TokenRevocationService tokenRevocationService) {
+        this.tokenProperties = tokenProperties;
+        this.tokenRevocationService = tokenRevocationService;
+        this.signingKey = new SecretKeySpec(getSecret(tokenProperties), HMAC_ALGORITHM);
+    }
+
+    public IssuedTokens issue(Long userId, String username) {
+        UUID id = UUID.randomUUID();
+        Instant now = Instant.now();
+        Duration accessTokenTtl = tokenProperties.getAccessTokenTtl();
+
+        String accessToken = sign(new TokenClaims(TokenType.ACCESS, id, userId, username, now.plus(accessTokenTtl)));
+        String refreshToken = sign(new TokenClaims(TokenType.REFRESH, id, userId, username,
+                now.plus(tokenProperties.getRefreshTokenTtl())));
+
+        return new IssuedTokens(accessToken, refreshToken, accessTokenTtl.toSeconds());
+    }
+
+    public Optional<TokenClaims> verify(String token, TokenType type) {
+        int separator = token.indexOf('.');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] payload = DECODER.decode(token.substring(0, separator));
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+
+            if (!MessageDigest.isEqual(mac(payload), signature)) {
+                return Optional.empty();
+            }
+
+            TokenClaims claims = parse(new String(payload, StandardCharsets.UTF_8));
+
+            if (claims.type() != type
+                    || claims.expiresAt().isBefore(Instant.now())
+                    || tokenRevocationService.isRevoked(claims.id())) {
+                return Optional.empty();
+            }
+
+            return Optional.of(claims);
+        } catch (IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+    }
+
+    public void revoke(TokenClaims claims) {
+        Instant refreshExpiresAt = claims.type() == TokenType.REFRESH
+                ? claims.expiresAt()
+                : claims.expiresAt().plus(tokenProperties.getRefreshTokenTtl());
+
+        tokenRevocationService.revoke(claims.id(), refreshExpiresAt);
+    }
+
+    private String sign(TokenClaims claims) {
+        byte[] payload = String.join("|",
+                        claims.type().name(),
+                        claims.id().toString(),
+                        claims.userId().toString(),
+                        String.valueOf(claims.expiresAt().getEpochSecond()),
+                        claims.username())
+                .getBytes(StandardCharsets.UTF_8);
+
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(mac(payload));
+    }
+
+    private TokenClaims parse(String payload) {
+        String[] fields = payload.split("\\|", 5);
+        if (fields.length != 5) {
+            throw new IllegalArgumentException("Malformed token");
+        }
+
+        return new TokenClaims(
+                TokenType.valueOf(fields[0]),
+                UUID.fromString(fields[1]),
+                Long.valueOf(fields[2]),
+                fields[4],
+                Instant.ofEpochSecond(Long.parseLong(fields[3])));
+    }
+
+    private byte[] mac(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("Unable to sign token", exception);
+        }
+    }
+
+    private static byte[] getSecret(TokenProperties tokenProperties) {
+        String secret = tokenProperties.getSecret();
+        if (secret != null && !secret.isBlank()) {
+            return Base64.getDecoder().decode(secret);
+        }
+
+        if (tokenProperties.isEnabled()) {
+            throw new IllegalStateException("security.token.secret must be set when security.token.enabled is true: "
+                    + "every node has to sign and verify tokens with the same Base64-encoded key");
+        }
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+
+        return key;
+    }
+}
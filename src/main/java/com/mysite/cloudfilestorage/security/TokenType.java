@@ -0,0 +1,6 @@
+package com.mysite.cloudfilestorage.security;
+
+public enum TokenType {
+    ACCESS,
+    REFRESH
+}
@@ -0,0 +1,24 @@
+package com.mysite.cloudfilestorage.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.mysite.cloudfilestorage.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UserCredentialsListener {
+
+    private final Cache<String, CachedCredentials> credentialsCache;
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        credentialsCache.invalidate(user.getUsername());
+        credentialsCache.asMap()
+                .values()
+                .removeIf(credentials -> user.getId().equals(credentials.principal().getUser().getId()));
+    }
+}
@@ -0,0 +1,122 @@
+package com.mysite.cloudfilestorage.service;
+
+import com.google.common.io.CountingOutputStream;
+import com.mysite.cloudfilestorage.dto.DownloadResult;
+import com.mysite.cloudfilestorage.dto.ResourceResponse;
+import com.mysite.cloudfilestorage.exception.minio.ResourceIsNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Component
+public class ResourceMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Counter uploadedBytes;
+    private final Counter downloadedBytes;
+
+    public ResourceMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.uploadedBytes = bytesCounter("upload");
+        this.downloadedBytes = bytesCounter("download");
+    }
+
+    public <T> T record(String operation, ResourceCall<T> call) throws Exception {
+        long start = System.nanoTime();
+        String outcome = "success";
+
+        try {
+            return call.call();
+        } catch (ResourceIsNotFoundException exception) {
+            outcome = "not_found";
+            throw exception;
+        } catch (RuntimeException exception) {
+            outcome = "rejected";
+            throw exception;
+        } catch (Exception exception) {
+            outcome = "error";
+            throw exception;
+        } finally {
+            timer(operation, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void run(String operation, ResourceAction action) throws Exception {
+        record(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public List<ResourceResponse> countUploaded(List<ResourceResponse> resources) {
+        uploadedBytes.increment(resources.stream()
+                .map(ResourceResponse::getSize)
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sum());
+
+        return resources;
+    }
+
+    public void countUploaded(long bytes) {
+        uploadedBytes.increment(bytes);
+    }
+
+    public DownloadResult countDownloaded(DownloadResult result) {
+        if (result.body() == null) {
+            return result;
+        }
+
+        StreamingResponseBody body = result.body();
+        return new DownloadResult(result.fileName(), result.status(), result.headers(), outputStream -> {
+            CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+            try {
+                body.writeTo(countingOutputStream);
+            } finally {
+                downloadedBytes.increment(countingOutputStream.getCount());
+            }
+        }, result.segments());
+    }
+
+    public void countDownloaded(long bytes) {
+        downloadedBytes.increment(bytes);
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return timers.computeIfAbsent(operation + ":" + outcome, key -> Timer.builder("resource.operations")
+                .description("Resource operations served by the API")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(5))
+                .register(meterRegistry));
+    }
+
+    private Counter bytesCounter(String direction) {
+        return Counter.builder("resource.bytes")
+                .description("Bytes uploaded to and downloaded from user storage")
+                .baseUnit("bytes")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    public interface ResourceCall<T> {
+        T call() throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface ResourceAction {
+        void run() throws Exception;
+    }
+}
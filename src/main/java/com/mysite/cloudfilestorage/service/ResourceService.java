@@ -1,13 +1,21 @@
 package com.mysite.cloudfilestorage.service;
 
 import com.mysite.cloudfilestorage.dto.DownloadResult;
+import com.mysite.cloudfilestorage.dto.ResourcePage;
 import com.mysite.cloudfilestorage.dto.ResourceResponse;
+import com.mysite.cloudfilestorage.dto.ResourceVersion;
+import com.mysite.cloudfilestorage.dto.UploadSessionResponse;
 import com.mysite.cloudfilestorage.service.resource.download.ResourceDownloadService;
 import com.mysite.cloudfilestorage.service.resource.move.ResourceModificationService;
 import com.mysite.cloudfilestorage.service.resource.query.ResourceQueryService;
 import com.mysite.cloudfilestorage.service.resource.upload.ResourceUploadService;
+import com.mysite.cloudfilestorage.service.resource.upload.UploadSessionService;
+import java.io.InputStream;
 import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -19,36 +27,80 @@ public class ResourceService {
     private final ResourceModificationService modificationService;
     private final ResourceDownloadService downloadService;
     private final ResourceUploadService uploadService;
+    private final UploadSessionService uploadSessionService;
+    private final ResourceMetrics metrics;
 
     public ResourceResponse getResource(String path) throws Exception {
-        return queryService.getResource(path);
+        return metrics.record("getResource", () -> queryService.getResource(path));
     }
 
-    public List<ResourceResponse> getResourceForDirectory(String path) throws Exception {
-        return queryService.getResourceForDirectory(path);
+    public ResourceVersion getResourceVersion(String path) throws Exception {
+        return metrics.record("getResourceVersion", () -> queryService.getResourceVersion(path));
+    }
+
+    public ResourceVersion getDirectoryVersion(String path, int limit, String cursor) throws Exception {
+        return metrics.record("getDirectoryVersion", () -> queryService.getDirectoryVersion(path, limit, cursor));
+    }
+
+    public ResourcePage getResourceForDirectory(String path, int limit, String cursor) throws Exception {
+        return metrics.record("getResourceForDirectory",
+                () -> queryService.getResourceForDirectory(path, limit, cursor));
     }
 
     public void removeResource(String path) throws Exception {
-        modificationService.removeResource(path);
+        metrics.run("removeResource", () -> modificationService.removeResource(path));
     }
 
-    public DownloadResult downloadResource(String path) throws Exception {
-        return downloadService.downloadResource(path);
+    public DownloadResult downloadResource(String path, HttpHeaders requestHeaders) throws Exception {
+        return metrics.countDownloaded(metrics.record("downloadResource",
+                () -> downloadService.downloadResource(path, requestHeaders)));
     }
 
     public ResourceResponse moveResource(String from, String to) throws Exception {
-        return modificationService.moveResource(from, to);
+        return metrics.record("moveResource", () -> modificationService.moveResource(from, to));
     }
 
-    public List<ResourceResponse> searchResource(String query) throws Exception {
-        return queryService.searchResource(query);
+    public List<ResourceResponse> searchResource(String query, int limit, int offset) throws Exception {
+        return metrics.record("searchResource", () -> queryService.searchResource(query, limit, offset));
     }
 
     public List<ResourceResponse> uploadResource(String path, List<MultipartFile> resource) throws Exception {
-        return uploadService.uploadResource(path, resource);
+        return metrics.countUploaded(metrics.record("uploadResource",
+                () -> uploadService.uploadResource(path, resource)));
+    }
+
+    public List<ResourceResponse> uploadResource(String path, FileItemInputIterator resource) throws Exception {
+        return metrics.countUploaded(metrics.record("uploadResourceStream",
+                () -> uploadService.uploadResource(path, resource)));
+    }
+
+    public UploadSessionResponse createUploadSession(String path) throws Exception {
+        return metrics.record("createUploadSession", () -> uploadSessionService.createSession(path));
+    }
+
+    public UploadSessionResponse getUploadSession(UUID id) throws Exception {
+        return metrics.record("getUploadSession", () -> uploadSessionService.getSession(id));
+    }
+
+    public void uploadChunk(UUID id, int number, InputStream inputStream, long size) throws Exception {
+        metrics.run("uploadChunk", () -> uploadSessionService.uploadChunk(id, number, inputStream, size));
+        metrics.countUploaded(size);
+    }
+
+    public void validateChunk(UUID id, int number, long size) throws Exception {
+        uploadSessionService.validateChunk(id, number, size);
+    }
+
+    public ResourceResponse completeUploadSession(UUID id) throws Exception {
+        return metrics.record("completeUploadSession", () -> uploadSessionService.completeSession(id));
+    }
+
+    public void abortUploadSession(UUID id) throws Exception {
+        metrics.run("abortUploadSession", () -> uploadSessionService.abortSession(id));
     }
 
     public ResourceResponse createEmptyDirectoryResource(String path) throws Exception {
-        return uploadService.createEmptyDirectoryResource(path);
+        return metrics.record("createEmptyDirectoryResource",
+                () -> uploadService.createEmptyDirectoryResource(path));
     }
 }
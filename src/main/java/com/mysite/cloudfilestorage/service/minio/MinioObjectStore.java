@@ -0,0 +1,246 @@
+package com.mysite.cloudfilestorage.service.minio;
+
+import com.mysite.cloudfilestorage.config.minio.MinioProperties;
+import com.mysite.cloudfilestorage.dto.StoredObject;
+import com.mysite.cloudfilestorage.dto.StoredPart;
+import com.mysite.cloudfilestorage.exception.minio.InvalidRequestBodyException;
+import com.mysite.cloudfilestorage.exception.minio.ResourceIsNotFoundException;
+import com.mysite.cloudfilestorage.service.storage.ObjectStore;
+import io.minio.CopyObjectArgs;
+import io.minio.CopySource;
+import io.minio.GetObjectArgs;
+import io.minio.ListObjectsArgs;
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import io.minio.RemoveObjectsArgs;
+import io.minio.Result;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Item;
+import io.minio.messages.ListPartsResult;
+import io.minio.messages.Part;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(prefix = "storage", name = "backend", havingValue = "minio", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MinioObjectStore implements ObjectStore {
+
+    private final MinioClient minioClient;
+    private final MinioAsyncClient minioAsyncClient;
+    private final MinioProperties minioProperties;
+    private final MultipartObjectCopier multipartObjectCopier;
+
+    @Override
+    public List<StoredObject> list(String prefix) throws Exception {
+        Iterable<Result<Item>> results = minioClient.listObjects(
+                ListObjectsArgs.builder()
+                        .bucket(minioProperties.getBucket())
+                        .prefix(prefix)
+                        .recursive(true)
+                        .build());
+
+        List<StoredObject> objects = new ArrayList<>();
+        for (Result<Item> result : results) {
+            Item item = result.get();
+            objects.add(new StoredObject(item.objectName(), item.size(), item.etag(),
+                    item.lastModified() == null ? null : item.lastModified().toInstant()));
+        }
+
+        return objects;
+    }
+
+    @Override
+    public StoredObject stat(String key) throws Exception {
+        StatObjectResponse response;
+        try {
+            response = minioClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(minioProperties.getBucket())
+                            .object(key)
+                            .build()
+            );
+        } catch (ErrorResponseException exception) {
+            throw new ResourceIsNotFoundException("The resource was not found");
+        }
+
+        return new StoredObject(key, response.size(), response.etag(), response.lastModified().toInstant());
+    }
+
+    @Override
+    public InputStream get(String key) throws Exception {
+        try {
+            return minioClient.getObject(
+                    GetObjectArgs.builder()
+                            .bucket(minioProperties.getBucket())
+                            .object(key)
+                            .build());
+        } catch (ErrorResponseException exception) {
+            throw new ResourceIsNotFoundException("The resource was not found");
+        }
+    }
+
+    @Override
+    public InputStream get(String key, long offset, long length) throws Exception {
+        try {
+            return minioClient.getObject(
+                    GetObjectArgs.builder()
+                            .bucket(minioProperties.getBucket())
+                            .object(key)
+                            .offset(offset)
+                            .length(length)
+                            .build());
+        } catch (ErrorResponseException exception) {
+            throw new ResourceIsNotFoundException("The resource was not found");
+        }
+    }
+
+    @Override
+    public String put(String key, InputStream inputStream, Long size) throws Exception {
+        long partSize = size == null ? minioProperties.getUpload().getPartSize().toBytes() : -1;
+
+        return minioClient.putObject(
+                PutObjectArgs.builder()
+                        .bucket(minioProperties.getBucket())
+                        .stream(inputStream, size == null ? -1 : size, partSize)
+                        .object(key)
+                        .build())
+                .etag();
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey, long size) throws Exception {
+        if (size >= minioProperties.getMove().getMultipartCopyThreshold().toBytes()) {
+            multipartObjectCopier.copy(sourceKey, targetKey);
+            return;
+        }
+
+        minioClient.copyObject(
+                CopyObjectArgs.builder()
+                        .bucket(minioProperties.getBucket())
+                        .object(targetKey)
+                        .source(
+                                CopySource.builder()
+                                        .bucket(minioProperties.getBucket())
+                                        .object(sourceKey)
+                                        .build())
+                        .build());
+    }
+
+    @Override
+    public void delete(String key) throws Exception {
+        minioClient.removeObject(
+                RemoveObjectArgs.builder()
+                        .bucket(minioProperties.getBucket())
+                        .object(key)
+                        .build());
+    }
+
+    @Override
+    public void deleteAll(List<String> keys) throws Exception {
+        List<DeleteObject> objectsForRemove = keys
+                .stream()
+                .map(DeleteObject::new)
+                .toList();
+
+        Iterable<Result<DeleteError>> results = minioClient.removeObjects(
+                RemoveObjectsArgs.builder()
+                        .bucket(minioProperties.getBucket())
+                        .objects(objectsForRemove)
+                        .build());
+
+        for (Result<DeleteError> result : results) {
+            result.get();
+        }
+    }
+
+    @Override
+    public String createMultipartUpload(String key) throws Exception {
+        return await(minioAsyncClient.createMultipartUploadAsync(minioProperties.getBucket(), null, key, null, null))
+                .result()
+                .uploadId();
+    }
+
+    @Override
+    public String uploadPart(String key, String uploadId, int partNumber, InputStream inputStream, long size)
+            throws Exception {
+        return await(minioAsyncClient.uploadPartAsync(
+                minioProperties.getBucket(), null, key, inputStream, size, uploadId, partNumber, null, null))
+                .etag();
+    }
+
+    @Override
+    public List<StoredPart> listParts(String key, String uploadId) throws Exception {
+        List<StoredPart> parts = new ArrayList<>();
+        Integer partNumberMarker = null;
+        ListPartsResult result;
+
+        do {
+            result = await(minioAsyncClient.listPartsAsync(
+                    minioProperties.getBucket(), null, key, null, partNumberMarker, uploadId, null, null))
+                    .result();
+            result.partList().forEach(part -> parts.add(
+                    new StoredPart(part.partNumber(), part.etag(), part.partSize())));
+            partNumberMarker = result.nextPartNumberMarker();
+        } while (result.isTruncated());
+
+        return parts;
+    }
+
+    @Override
+    public String completeMultipartUpload(String key, String uploadId, List<StoredPart> parts) throws Exception {
+        Part[] minioParts = parts.stream()
+                .map(part -> new Part(part.partNumber(), part.etag()))
+                .toArray(Part[]::new);
+
+        try {
+            return await(minioAsyncClient.completeMultipartUploadAsync(
+                    minioProperties.getBucket(), null, key, uploadId, minioParts, null, null))
+                    .etag();
+        } catch (ErrorResponseException exception) {
+            if ("EntityTooSmall".equals(exception.errorResponse().code())) {
+                throw new InvalidRequestBodyException("Every chunk except the last one must be at least 5MB");
+            }
+            if ("InvalidPart".equals(exception.errorResponse().code())) {
+                throw new InvalidRequestBodyException("Some chunks are missing");
+            }
+            throw exception;
+        }
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) throws Exception {
+        try {
+            await(minioAsyncClient.abortMultipartUploadAsync(
+                    minioProperties.getBucket(), null, key, uploadId, null, null));
+        } catch (ErrorResponseException exception) {
+            if ("NoSuchUpload".equals(exception.errorResponse().code())) {
+                throw new ResourceIsNotFoundException("The upload session was not found");
+            }
+            throw exception;
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.mysite.cloudfilestorage.service.minio;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import com.mysite.cloudfilestorage.config.minio.MinioProperties;
+import io.minio.MinioAsyncClient;
+import io.minio.S3Escaper;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.messages.Part;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "storage", name = "backend", havingValue = "minio", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MultipartObjectCopier {
+
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final long MAX_PART_SIZE = 5L * 1024 * 1024 * 1024;
+    private static final int MAX_PARTS_COUNT = 10_000;
+
+    private final MinioAsyncClient minioAsyncClient;
+    private final MinioProperties minioProperties;
+
+    public void copy(String sourceKey, String targetKey) throws Exception {
+        String bucket = minioProperties.getBucket();
+
+        StatObjectResponse source = await(minioAsyncClient.statObject(
+                StatObjectArgs.builder()
+                        .bucket(bucket)
+                        .object(sourceKey)
+                        .build()));
+
+        long partSize = getPartSize(source.size());
+        int partsCount = (int) Math.max(1, (source.size() + partSize - 1) / partSize);
+
+        Multimap<String, String> headers = HashMultimap.create();
+        if (source.contentType() != null) {
+            headers.put("Content-Type", source.contentType());
+        }
+
+        String uploadId = await(minioAsyncClient.createMultipartUploadAsync(bucket, null, targetKey, headers, null))
+                .result()
+                .uploadId();
+
+        try {
+            Part[] parts = copyParts(bucket, sourceKey, source, targetKey, uploadId, partSize, partsCount);
+            await(minioAsyncClient.completeMultipartUploadAsync(bucket, null, targetKey, uploadId, parts, null, null));
+        } catch (Exception exception) {
+            abort(bucket, targetKey, uploadId, exception);
+            throw exception;
+        }
+    }
+
+    private Part[] copyParts(String bucket, String sourceKey, StatObjectResponse source, String targetKey,
+                             String uploadId, long partSize, int partsCount) throws Exception {
+        Semaphore permits = new Semaphore(Math.max(1, minioProperties.getMove().getPartCopyParallelism()));
+        List<CompletableFuture<Part>> copies = new ArrayList<>(partsCount);
+        AtomicBoolean failed = new AtomicBoolean();
+
+        try {
+            for (int partNumber = 1; partNumber <= partsCount && !failed.get(); partNumber++) {
+                long start = (partNumber - 1) * partSize;
+                long end = Math.min(start + partSize, source.size()) - 1;
+                Multimap<String, String> headers = getCopyHeaders(bucket, sourceKey, source.etag(), start, end);
+                int number = partNumber;
+
+                permits.acquire();
+                CompletableFuture<Part> copy;
+                try {
+                    copy = minioAsyncClient
+                            .uploadPartCopyAsync(bucket, null, targetKey, uploadId, number, headers, null)
+                            .thenApply(response -> new Part(number, response.result().etag()));
+                } catch (Exception exception) {
+                    permits.release();
+                    throw exception;
+                }
+
+                copy.whenComplete((part, error) -> {
+                    if (error != null) {
+                        failed.set(true);
+                    }
+                    permits.release();
+                });
+                copies.add(copy);
+            }
+
+            Part[] parts = new Part[copies.size()];
+            for (int i = 0; i < copies.size(); i++) {
+                parts[i] = await(copies.get(i));
+            }
+
+            return parts;
+        } catch (Exception exception) {
+            copies.forEach(copy -> copy.cancel(true));
+            throw exception;
+        }
+    }
+
+    private Multimap<String, String> getCopyHeaders(String bucket, String sourceKey, String etag,
+                                                    long start, long end) {
+        Multimap<String, String> headers = HashMultimap.create();
+        headers.put("x-amz-copy-source", S3Escaper.encodePath(bucket + "/" + sourceKey));
+        headers.put("x-amz-copy-source-range", "bytes=" + start + "-" + end);
+        headers.put("x-amz-copy-source-if-match", etag);
+
+        return headers;
+    }
+
+    private long getPartSize(long objectSize) {
+        long partSize = minioProperties.getMove().getCopyPartSize().toBytes();
+        long minPartSize = Math.max(MIN_PART_SIZE, (objectSize + MAX_PARTS_COUNT - 1) / MAX_PARTS_COUNT);
+
+        return Math.min(MAX_PART_SIZE, Math.max(partSize, minPartSize));
+    }
+
+    private void abort(String bucket, String targetKey, String uploadId, Exception exception) {
+        try {
+            await(minioAsyncClient.abortMultipartUploadAsync(bucket, null, targetKey, uploadId, null, null));
+        } catch (Exception abortException) {
+            exception.addSuppressed(abortException);
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException | CompletionException exception) {
+            if (exception.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+}
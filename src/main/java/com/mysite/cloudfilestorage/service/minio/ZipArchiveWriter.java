@@ -0,0 +1,133 @@
+package com.mysite.cloudfilestorage.service.minio;
+
+import com.mysite.cloudfilestorage.config.minio.MinioProperties;
+import com.mysite.cloudfilestorage.dto.ArchiveEntry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ZipArchiveWriter {
+
+    private static final InputStream DISCARDED = InputStream.nullInputStream();
+
+    private final ExecutorService archivePrefetchExecutor;
+    private final MinioProperties minioProperties;
+
+    public void write(List<ArchiveEntry> entries, ObjectSource objectSource, OutputStream outputStream) throws Exception {
+        MinioProperties.Download settings = minioProperties.getDownload();
+        int prefetchWindow = Math.max(1, settings.getPrefetchWindow());
+        long memoryLimit = settings.getPrefetchMemoryLimit().toBytes();
+        long bufferedObjectMaxSize = Math.min(settings.getBufferedObjectMaxSize().toBytes(), memoryLimit);
+
+        Deque<PendingEntry> pendingEntries = new ArrayDeque<>(prefetchWindow);
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+        long reservedMemory = 0;
+        int next = 0;
+
+        try {
+            while (next < entries.size() || !pendingEntries.isEmpty()) {
+                while (next < entries.size() && pendingEntries.size() < prefetchWindow) {
+                    ArchiveEntry entry = entries.get(next);
+                    boolean buffered = entry.size() <= bufferedObjectMaxSize;
+
+                    if (buffered && reservedMemory + entry.size() > memoryLimit) {
+                        break;
+                    }
+
+                    long entryMemory = buffered ? entry.size() : 0;
+                    AtomicReference<InputStream> handoff = new AtomicReference<>();
+                    reservedMemory += entryMemory;
+                    pendingEntries.add(new PendingEntry(entry, entryMemory, handoff,
+                            archivePrefetchExecutor.submit(() -> prefetch(entry, buffered, objectSource, handoff))));
+                    next++;
+                }
+
+                PendingEntry pendingEntry = pendingEntries.poll();
+
+                try (InputStream inputStream = await(pendingEntry.stream())) {
+                    zipOutputStream.putNextEntry(new ZipEntry(pendingEntry.entry().name()));
+                    inputStream.transferTo(zipOutputStream);
+                    zipOutputStream.closeEntry();
+                }
+
+                reservedMemory -= pendingEntry.reservedMemory();
+            }
+        } finally {
+            pendingEntries.forEach(this::discard);
+        }
+
+        zipOutputStream.finish();
+        zipOutputStream.flush();
+    }
+
+    private InputStream prefetch(ArchiveEntry entry, boolean buffered, ObjectSource objectSource,
+                                 AtomicReference<InputStream> handoff) throws Exception {
+        InputStream inputStream = objectSource.open(entry.key());
+
+        if (buffered) {
+            inputStream = readFully(inputStream);
+        }
+
+        if (!handoff.compareAndSet(null, inputStream)) {
+            inputStream.close();
+            throw new InterruptedException("Prefetch of " + entry.key() + " was cancelled");
+        }
+
+        return inputStream;
+    }
+
+    private InputStream readFully(InputStream inputStream) throws IOException {
+        try (inputStream) {
+            return new ByteArrayInputStream(inputStream.readAllBytes());
+        }
+    }
+
+    private InputStream await(Future<InputStream> stream) throws Exception {
+        try {
+            return stream.get();
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    private void discard(PendingEntry pendingEntry) {
+        InputStream inputStream = pendingEntry.handoff().getAndSet(DISCARDED);
+        pendingEntry.stream().cancel(true);
+
+        if (inputStream == null) {
+            return;
+        }
+
+        try {
+            inputStream.close();
+        } catch (IOException ignored) {
+            // the archive has already failed, the original error is reported instead
+        }
+    }
+
+    @FunctionalInterface
+    public interface ObjectSource {
+        InputStream open(String key) throws Exception;
+    }
+
+    private record PendingEntry(ArchiveEntry entry, long reservedMemory, AtomicReference<InputStream> handoff,
+                                Future<InputStream> stream) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.mysite.cloudfilestorage.service.resource.common;
+
+import com.mysite.cloudfilestorage.dto.ParallelResult;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class BoundedParallelExecutor {
+
+    private final ExecutorService executorService;
+    private final IntSupplier parallelism;
+
+    public <T, R> ParallelResult<R> runAll(List<T> items, Function<T, String> keyFunction, Task<T, R> task) {
+        Semaphore permits = new Semaphore(Math.max(1, parallelism.getAsInt()));
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        InterruptedException interruption = null;
+
+        for (T item : items) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException exception) {
+                interruption = exception;
+                break;
+            }
+            futures.add(executorService.submit(() -> {
+                try {
+                    return task.run(item);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        Map<String, R> completed = new LinkedHashMap<>();
+        Map<String, Exception> failedKeys = new LinkedHashMap<>();
+        boolean interrupted = interruption != null;
+
+        for (int i = 0; i < futures.size(); i++) {
+            String key = keyFunction.apply(items.get(i));
+            Future<R> future = futures.get(i);
+
+            while (true) {
+                try {
+                    completed.put(key, future.get());
+                    break;
+                } catch (ExecutionException exception) {
+                    failedKeys.put(key, exception.getCause() instanceof Exception cause ? cause : exception);
+                    break;
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                    if (interruption == null) {
+                        interruption = exception;
+                    }
+                }
+            }
+        }
+
+        for (int i = futures.size(); i < items.size(); i++) {
+            failedKeys.put(keyFunction.apply(items.get(i)), interruption);
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        return new ParallelResult<>(completed, failedKeys);
+    }
+
+    @FunctionalInterface
+    public interface Task<T, R> {
+        R run(T item) throws Exception;
+    }
+}
@@ -0,0 +1,27 @@
+package com.mysite.cloudfilestorage.service.resource.common;
+
+import com.mysite.cloudfilestorage.service.resource.index.ResourceIndexService;
+import com.mysite.cloudfilestorage.validation.PathValidator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ResourceConflictService {
+
+    private final ResourceIndexService indexService;
+    private final PathValidator pathValidator;
+
+    public void validateKeysAreFree(List<String> keys) {
+        Set<String> uniqueKeys = new HashSet<>(keys.size());
+
+        for (String key : keys) {
+            pathValidator.validateResourceIsNotExists(!uniqueKeys.add(key));
+        }
+
+        pathValidator.validateResourceIsNotExists(!indexService.findExistingKeys(uniqueKeys).isEmpty());
+    }
+}
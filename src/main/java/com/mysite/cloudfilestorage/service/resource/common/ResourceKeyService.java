@@ -2,6 +2,7 @@ package com.mysite.cloudfilestorage.service.resource.common;
 
 import com.mysite.cloudfilestorage.security.CurrentUserProvider;
 import com.mysite.cloudfilestorage.service.minio.MinioKeyBuilder;
+import com.mysite.cloudfilestorage.service.resource.index.ResourceIndexService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -11,9 +12,13 @@ public class ResourceKeyService {
 
     private final CurrentUserProvider currentUserProvider;
     private final MinioKeyBuilder minioKeyBuilder;
+    private final ResourceIndexService indexService;
 
-    public Long getUserId() {
-        return currentUserProvider.getCurrentUser().getUser().getId();
+    public Long getUserId() throws Exception {
+        Long userId = currentUserProvider.getCurrentUserId();
+        indexService.ensureIndexed(userId);
+
+        return userId;
     }
 
     public String getKey(Long userId, String path) {
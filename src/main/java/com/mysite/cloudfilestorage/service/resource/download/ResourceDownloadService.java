@@ -1,30 +1,47 @@
 package com.mysite.cloudfilestorage.service.resource.download;
 
+import com.mysite.cloudfilestorage.dto.ArchiveEntry;
 import com.mysite.cloudfilestorage.dto.DownloadResult;
-import com.mysite.cloudfilestorage.exception.minio.ResourceIsNotFoundException;
+import com.mysite.cloudfilestorage.dto.StoredObject;
+import com.mysite.cloudfilestorage.dto.TransferSegment;
 import com.mysite.cloudfilestorage.service.minio.MinioKeyBuilder;
-import com.mysite.cloudfilestorage.service.minio.MinioStorageService;
+import com.mysite.cloudfilestorage.service.minio.ZipArchiveWriter;
 import com.mysite.cloudfilestorage.service.resource.common.ResourceKeyService;
+import com.mysite.cloudfilestorage.service.storage.ObjectStore;
 import com.mysite.cloudfilestorage.util.PathUtil;
 import com.mysite.cloudfilestorage.validation.PathValidator;
-import io.minio.errors.ErrorResponseException;
-import io.minio.messages.Item;
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Service
 @RequiredArgsConstructor
 public class ResourceDownloadService {
 
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
     private final MinioKeyBuilder minioKeyBuilder;
-    private final MinioStorageService minioStorageService;
+    private final ObjectStore objectStore;
+    private final ZipArchiveWriter zipArchiveWriter;
     private final ResourceKeyService keyService;
     private final PathValidator pathValidator;
 
-    public DownloadResult downloadResource(String path) throws Exception {
+    public DownloadResult downloadResource(String path, HttpHeaders requestHeaders) throws Exception {
         pathValidator.validatePath(path);
 
         Long userId = keyService.getUserId();
@@ -42,26 +59,179 @@ public class ResourceDownloadService {
             }
         } else {
             String fileName = PathUtil.getNameForFile(path);
-            return new DownloadResult(fileName, downloadFileReResource(key));
+            return downloadFileReResource(fileName, key, requestHeaders);
         }
     }
 
-    private InputStream downloadFileReResource(String key) throws Exception {
+    private DownloadResult downloadFileReResource(String fileName, String key, HttpHeaders requestHeaders)
+            throws Exception {
+        StoredObject object = objectStore.stat(key);
+
+        long size = object.size();
+        String etag = "\"" + object.etag() + "\"";
+        Instant lastModified = object.lastModified();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setETag(etag);
+        headers.setLastModified(lastModified);
+
+        if (isNotModified(requestHeaders, etag, lastModified)) {
+            return new DownloadResult(fileName, HttpStatus.NOT_MODIFIED, headers, null);
+        }
+
+        String range = requestHeaders.getFirst(HttpHeaders.RANGE);
+        String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+
+        if (range == null || size == 0 || !isIfRangeSatisfied(ifRange, etag, lastModified)) {
+            headers.setContentLength(size);
+            return segmentedResult(fileName, HttpStatus.OK, headers,
+                    size == 0 ? List.of() : List.of(TransferSegment.object(key, 0, size)));
+        }
+
+        List<HttpRange> ranges;
         try {
-            return minioStorageService.downloadObject(key);
-        } catch (ErrorResponseException exception) {
-            throw new ResourceIsNotFoundException("The resource was not found");
+            ranges = HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException exception) {
+            return rangeNotSatisfiable(fileName, headers, size);
+        }
+
+        List<ByteRange> byteRanges = new ArrayList<>(ranges.size());
+        for (HttpRange httpRange : ranges) {
+            long start = httpRange.getRangeStart(size);
+            long end = httpRange.getRangeEnd(size);
+
+            if (start >= size || start > end) {
+                return rangeNotSatisfiable(fileName, headers, size);
+            }
+            byteRanges.add(new ByteRange(start, end));
+        }
+
+        long rangesLength = byteRanges.stream()
+                .mapToLong(ByteRange::length)
+                .sum();
+
+        if (byteRanges.size() > 1 && rangesLength > size) {
+            return rangeNotSatisfiable(fileName, headers, size);
+        }
+
+        if (byteRanges.size() == 1) {
+            ByteRange byteRange = byteRanges.getFirst();
+            headers.set(HttpHeaders.CONTENT_RANGE, byteRange.contentRange(size));
+            headers.setContentLength(byteRange.length());
+            return segmentedResult(fileName, HttpStatus.PARTIAL_CONTENT, headers,
+                    List.of(TransferSegment.object(key, byteRange.start(), byteRange.length())));
+        }
+
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        List<byte[]> partHeaders = byteRanges.stream()
+                .map(byteRange -> ("--" + boundary + "\r\n"
+                        + HttpHeaders.CONTENT_TYPE + ": " + MediaType.APPLICATION_OCTET_STREAM_VALUE + "\r\n"
+                        + HttpHeaders.CONTENT_RANGE + ": " + byteRange.contentRange(size) + "\r\n\r\n")
+                        .getBytes(StandardCharsets.US_ASCII))
+                .toList();
+        byte[] closingBoundary = ("--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+
+        long contentLength = closingBoundary.length;
+        for (int i = 0; i < byteRanges.size(); i++) {
+            contentLength += partHeaders.get(i).length + byteRanges.get(i).length() + CRLF.length;
         }
+
+        headers.setContentType(MediaType.parseMediaType("multipart/byteranges; boundary=" + boundary));
+        headers.setContentLength(contentLength);
+
+        List<TransferSegment> segments = new ArrayList<>(byteRanges.size() * 3 + 1);
+        for (int i = 0; i < byteRanges.size(); i++) {
+            ByteRange byteRange = byteRanges.get(i);
+            segments.add(TransferSegment.bytes(partHeaders.get(i)));
+            segments.add(TransferSegment.object(key, byteRange.start(), byteRange.length()));
+            segments.add(TransferSegment.bytes(CRLF));
+        }
+        segments.add(TransferSegment.bytes(closingBoundary));
+
+        return segmentedResult(fileName, HttpStatus.PARTIAL_CONTENT, headers, segments);
     }
 
-    private ByteArrayInputStream downloadDirectoryResource(String path, String key) throws Exception {
-        List<Item> objects = minioStorageService.getListObjects(key, true);
-        pathValidator.validateDirectoryIsEmpty(objects);
+    private DownloadResult segmentedResult(String fileName, HttpStatus status, HttpHeaders headers,
+                                           List<TransferSegment> segments) {
+        return new DownloadResult(fileName, status, headers, outputStream -> writeSegments(segments, outputStream),
+                segments);
+    }
+
+    @SneakyThrows
+    private void writeSegments(List<TransferSegment> segments, OutputStream outputStream) {
+        for (TransferSegment segment : segments) {
+            if (!segment.isObject()) {
+                outputStream.write(segment.bytes());
+                continue;
+            }
+
+            objectStore.transferTo(segment.key(), segment.offset(), segment.length(), outputStream);
+        }
+    }
+
+    private boolean isNotModified(HttpHeaders requestHeaders, String etag, Instant lastModified) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+
+        if (!ifNoneMatch.isEmpty()) {
+            return ifNoneMatch.stream()
+                    .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+                    .anyMatch(candidate -> candidate.equals("*") || candidate.equals(etag));
+        }
+
+        long ifModifiedSince = requestHeaders.getIfModifiedSince();
+        return ifModifiedSince != -1 && lastModified.getEpochSecond() <= ifModifiedSince / 1000;
+    }
+
+    private boolean isIfRangeSatisfied(String ifRange, String etag, Instant lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(etag);
+        }
 
         try {
-            return minioStorageService.downloadObjects(path, objects);
-        } catch (ErrorResponseException exception) {
-            throw new ResourceIsNotFoundException("The resource was not found");
+            Instant date = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return date.equals(lastModified.truncatedTo(ChronoUnit.SECONDS));
+        } catch (DateTimeParseException exception) {
+            return false;
         }
     }
+
+    private DownloadResult rangeNotSatisfiable(String fileName, HttpHeaders headers, long size) {
+        headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+        return new DownloadResult(fileName, HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, headers, null);
+    }
+
+    private record ByteRange(long start, long end) {
+
+        long length() {
+            return end - start + 1;
+        }
+
+        String contentRange(long size) {
+            return "bytes " + start + "-" + end + "/" + size;
+        }
+    }
+
+    private StreamingResponseBody downloadDirectoryResource(String path, String key) throws Exception {
+        List<StoredObject> objects = objectStore.list(key);
+        pathValidator.validateDirectoryIsEmpty(objects);
+
+        return outputStream -> writeArchive(path, objects, outputStream);
+    }
+
+    @SneakyThrows
+    private void writeArchive(String path, List<StoredObject> objects, OutputStream outputStream) {
+        List<ArchiveEntry> entries = objects
+                .stream()
+                .map(object -> new ArchiveEntry(
+                        object.key(),
+                        PathUtil.getDownloadFileName(path, object.key()),
+                        object.size()))
+                .toList();
+
+        zipArchiveWriter.write(entries, objectStore::get, outputStream);
+    }
 }
@@ -0,0 +1,4 @@
+package com.mysite.cloudfilestorage.service.resource.index;
+
+public record ResourceCacheKey(String key, long generation) {
+}
@@ -0,0 +1,395 @@
+package com.mysite.cloudfilestorage.service.resource.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.mysite.cloudfilestorage.dto.DirectoryCursor;
+import com.mysite.cloudfilestorage.dto.ResourceType;
+import com.mysite.cloudfilestorage.dto.StoredObject;
+import com.mysite.cloudfilestorage.exception.minio.ResourceIsNotFoundException;
+import com.mysite.cloudfilestorage.model.ResourceMetadata;
+import com.mysite.cloudfilestorage.repository.ResourceMetadataRepository;
+import com.mysite.cloudfilestorage.service.minio.MinioKeyBuilder;
+import com.mysite.cloudfilestorage.service.storage.ObjectStore;
+import com.mysite.cloudfilestorage.util.PathUtil;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+@RequiredArgsConstructor
+public class ResourceIndexService {
+
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+    private static final int TRIGRAM_MIN_QUERY_LENGTH = 3;
+
+    private final ResourceMetadataRepository repository;
+    private final ObjectStore objectStore;
+    private final MinioKeyBuilder minioKeyBuilder;
+    private final Cache<ResourceCacheKey, Optional<ResourceMetadata>> resourceMetadataCache;
+    private final Cache<String, Long> resourceCacheGenerations;
+
+    private final Map<Long, ReentrantLock> indexLocks = new ConcurrentHashMap<>();
+    private final Set<Long> indexedUsers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong nextCacheGeneration = new AtomicLong();
+
+    public void ensureIndexed(Long userId) throws Exception {
+        if (indexedUsers.contains(userId)) {
+            return;
+        }
+
+        String userDirectoryName = minioKeyBuilder.buildUserDirectoryName(userId);
+
+        ReentrantLock indexLock = indexLocks.computeIfAbsent(userId, id -> new ReentrantLock());
+        indexLock.lock();
+        try {
+            if (!indexedUsers.contains(userId) && !repository.existsByPath(userDirectoryName)) {
+                rebuildIndex(userId, userDirectoryName);
+                evictPrefix(userDirectoryName);
+            }
+            indexedUsers.add(userId);
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    public boolean exists(String key) {
+        return resourceMetadataCache.get(cacheKey(key), this::load).isPresent();
+    }
+
+    public boolean isOccupied(String key) {
+        return repository.existsByPath(key);
+    }
+
+    public Set<String> findExistingKeys(Collection<String> keys) {
+        Set<String> existingKeys = new HashSet<>();
+        List<String> batch = new ArrayList<>(LOOKUP_BATCH_SIZE);
+
+        for (String key : keys) {
+            batch.add(key);
+
+            if (batch.size() == LOOKUP_BATCH_SIZE) {
+                existingKeys.addAll(repository.findExistingPaths(batch));
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            existingKeys.addAll(repository.findExistingPaths(batch));
+        }
+
+        return existingKeys;
+    }
+
+    public Optional<ResourceMetadata> find(String key) {
+        return resourceMetadataCache.get(cacheKey(key), this::load).map(ResourceIndexService::detach);
+    }
+
+    public List<ResourceMetadata> findChildren(String key, DirectoryCursor cursor, int limit) {
+        if (cursor == null) {
+            return repository.findChildrenAfter(key, "", "", limit);
+        }
+
+        return repository.findChildrenAfter(key, cursor.type().name(), cursor.name(), limit);
+    }
+
+    public List<ResourceMetadata> findDescendants(String key) {
+        return repository.findByPathStartingWith(key);
+    }
+
+    public List<ResourceMetadata> findStoredObjects(String key) {
+        return repository.findByPathStartingWith(key)
+                .stream()
+                .filter(resource -> !resource.isImplicit())
+                .toList();
+    }
+
+    public List<ResourceMetadata> search(Long userId, String query, int limit, int offset) {
+        String escapedQuery = escapeLike(query);
+
+        if (query.length() < TRIGRAM_MIN_QUERY_LENGTH) {
+            return repository.searchByNamePrefix(userId, query, escapedQuery + "%", limit, offset);
+        }
+
+        return repository.searchByName(userId, query, "%" + escapedQuery + "%", escapedQuery + "%", limit, offset);
+    }
+
+    @Transactional
+    public void addFile(Long userId, String key, long size, String etag) {
+        save(userId, key, ResourceType.FILE, size, etag);
+    }
+
+    @Transactional
+    public void addDirectory(Long userId, String key) {
+        save(userId, key, ResourceType.DIRECTORY, null, null);
+    }
+
+    @Transactional
+    public void moveFile(String oldKey, String newKey) {
+        ResourceMetadata resource = repository.findByPath(oldKey)
+                .orElseThrow(() -> new ResourceIsNotFoundException("The resource was not found"));
+
+        resource.setPath(newKey);
+        resource.setParent(PathUtil.getParentKey(newKey));
+        resource.setName(PathUtil.getKeyName(newKey));
+        resource.setModifiedAt(Instant.now());
+        repository.save(resource);
+        evictWithAncestors(List.of(oldKey, newKey));
+
+        Set<String> changedDirectories = new HashSet<>();
+        changedDirectories.add(PathUtil.getParentKey(oldKey));
+        changedDirectories.add(PathUtil.getParentKey(newKey));
+        changedDirectories.addAll(addAncestors(resource.getUserId(), List.of(newKey)));
+        changedDirectories.addAll(pruneAncestors(oldKey));
+        touchDirectories(changedDirectories);
+    }
+
+    @Transactional
+    public void moveDirectory(String oldKey, String newKey) {
+        ResourceMetadata resource = repository.findByPath(oldKey)
+                .orElseThrow(() -> new ResourceIsNotFoundException("The resource was not found"));
+
+        repository.movePaths(likePrefix(oldKey), oldKey, newKey,
+                PathUtil.getParentKey(newKey), PathUtil.getKeyName(newKey));
+        evictPrefix(oldKey);
+        evictPrefix(newKey);
+        evictWithAncestors(List.of(oldKey, newKey));
+
+        Set<String> changedDirectories = new HashSet<>();
+        changedDirectories.add(PathUtil.getParentKey(oldKey));
+        changedDirectories.add(PathUtil.getParentKey(newKey));
+        changedDirectories.addAll(addAncestors(resource.getUserId(), List.of(newKey)));
+        changedDirectories.addAll(pruneAncestors(oldKey));
+        touchDirectories(changedDirectories);
+    }
+
+    @Transactional
+    public void moveObjects(Long userId, Map<String, String> movedKeys, Collection<String> remainingKeys) {
+        movedKeys.forEach(this::moveFile);
+        touchDirectories(addAncestors(userId, remainingKeys));
+        evictWithAncestors(remainingKeys);
+    }
+
+    @Transactional
+    public void remove(String key) {
+        repository.findByPath(key).ifPresent(repository::delete);
+        evictWithAncestors(List.of(key));
+
+        Set<String> changedDirectories = new HashSet<>(pruneAncestors(key));
+        changedDirectories.add(PathUtil.getParentKey(key));
+        touchDirectories(changedDirectories);
+    }
+
+    @Transactional
+    public void removeDirectory(String key) {
+        repository.deleteByPathPattern(likePrefix(key));
+        evictPrefix(key);
+        evictWithAncestors(List.of(key));
+
+        Set<String> changedDirectories = new HashSet<>(pruneAncestors(key));
+        changedDirectories.add(PathUtil.getParentKey(key));
+        touchDirectories(changedDirectories);
+    }
+
+    private void rebuildIndex(Long userId, String userDirectoryName) throws Exception {
+        Map<String, ResourceMetadata> resources = new LinkedHashMap<>();
+        resources.put(userDirectoryName, directory(userId, userDirectoryName, true));
+
+        for (StoredObject object : objectStore.list(userDirectoryName)) {
+            String key = object.key();
+
+            for (String ancestorKey : PathUtil.getAncestorKeys(key)) {
+                resources.putIfAbsent(ancestorKey, directory(userId, ancestorKey, true));
+            }
+
+            if (PathUtil.isDirectory(key)) {
+                resources.put(key, directory(userId, key, false));
+            } else {
+                ResourceMetadata file = file(userId, key, object.size(), object.etag());
+                if (object.lastModified() != null) {
+                    file.setModifiedAt(object.lastModified());
+                }
+                resources.put(key, file);
+            }
+        }
+
+        try {
+            repository.saveAll(resources.values());
+        } catch (DataIntegrityViolationException exception) {
+            if (!repository.existsByPath(userDirectoryName)) {
+                throw exception;
+            }
+        }
+    }
+
+    private void save(Long userId, String key, ResourceType type, Long size, String etag) {
+        ResourceMetadata resource = repository.findByPath(key)
+                .orElseGet(() -> ResourceMetadata.builder()
+                        .userId(userId)
+                        .path(key)
+                        .parent(PathUtil.getParentKey(key))
+                        .name(PathUtil.getKeyName(key))
+                        .build());
+
+        resource.setType(type);
+        resource.setSize(size);
+        resource.setEtag(normalizeEtag(etag));
+        resource.setModifiedAt(Instant.now());
+        resource.setImplicit(false);
+        repository.save(resource);
+        evictWithAncestors(List.of(key));
+
+        Set<String> changedDirectories = new HashSet<>(addAncestors(userId, List.of(key)));
+        changedDirectories.add(PathUtil.getParentKey(key));
+        touchDirectories(changedDirectories);
+    }
+
+    private Set<String> addAncestors(Long userId, Collection<String> keys) {
+        Set<String> ancestorKeys = keys.stream()
+                .flatMap(key -> PathUtil.getAncestorKeys(key).stream())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Set<String> existingKeys = repository.findByPathIn(ancestorKeys)
+                .stream()
+                .map(ResourceMetadata::getPath)
+                .collect(Collectors.toSet());
+
+        List<ResourceMetadata> missingDirectories = ancestorKeys.stream()
+                .filter(ancestorKey -> !existingKeys.contains(ancestorKey))
+                .map(ancestorKey -> directory(userId, ancestorKey, true))
+                .toList();
+
+        repository.saveAll(missingDirectories);
+
+        return missingDirectories.stream()
+                .map(ResourceMetadata::getParent)
+                .collect(Collectors.toSet());
+    }
+
+    private Set<String> pruneAncestors(String key) {
+        List<String> ancestorKeys = PathUtil.getAncestorKeys(key);
+        Set<String> changedDirectories = new HashSet<>();
+
+        for (int i = ancestorKeys.size() - 1; i > 0; i--) {
+            ResourceMetadata ancestor = repository.findByPath(ancestorKeys.get(i)).orElse(null);
+
+            if (ancestor == null || !ancestor.isImplicit() || repository.existsByParent(ancestor.getPath())) {
+                break;
+            }
+
+            repository.delete(ancestor);
+            changedDirectories.add(ancestor.getParent());
+        }
+
+        return changedDirectories;
+    }
+
+    private void touchDirectories(Collection<String> keys) {
+        keys.remove("");
+
+        if (!keys.isEmpty()) {
+            repository.touchDirectories(keys, Instant.now());
+        }
+    }
+
+    private Optional<ResourceMetadata> load(ResourceCacheKey cacheKey) {
+        return repository.findByPath(cacheKey.key()).map(ResourceIndexService::detach);
+    }
+
+    private ResourceCacheKey cacheKey(String key) {
+        return new ResourceCacheKey(key,
+                resourceCacheGenerations.get(getUserRoot(key), root -> nextCacheGeneration.incrementAndGet()));
+    }
+
+    private static String getUserRoot(String key) {
+        return key.substring(0, key.indexOf('/') + 1);
+    }
+
+    private void evictWithAncestors(Collection<String> keys) {
+        Set<String> evictedKeys = new HashSet<>();
+
+        for (String key : keys) {
+            evictedKeys.add(key);
+            evictedKeys.addAll(PathUtil.getAncestorKeys(key));
+        }
+
+        evict(() -> resourceMetadataCache.invalidateAll(evictedKeys.stream().map(this::cacheKey).toList()));
+    }
+
+    private void evictPrefix(String prefix) {
+        evict(() -> resourceCacheGenerations.put(getUserRoot(prefix), nextCacheGeneration.incrementAndGet()));
+    }
+
+    private void evict(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                eviction.run();
+            }
+        });
+    }
+
+    private ResourceMetadata directory(Long userId, String key, boolean implicit) {
+        return ResourceMetadata.builder()
+                .userId(userId)
+                .path(key)
+                .parent(PathUtil.getParentKey(key))
+                .name(PathUtil.getKeyName(key))
+                .type(ResourceType.DIRECTORY)
+                .modifiedAt(Instant.now())
+                .implicit(implicit)
+                .build();
+    }
+
+    private ResourceMetadata file(Long userId, String key, long size, String etag) {
+        return ResourceMetadata.builder()
+                .userId(userId)
+                .path(key)
+                .parent(PathUtil.getParentKey(key))
+                .name(PathUtil.getKeyName(key))
+                .type(ResourceType.FILE)
+                .size(size)
+                .etag(normalizeEtag(etag))
+                .modifiedAt(Instant.now())
+                .build();
+    }
+
+    private static ResourceMetadata detach(ResourceMetadata resource) {
+        return resource.toBuilder().build();
+    }
+
+    private static String normalizeEtag(String etag) {
+        return etag == null ? null : etag.replace("\"", "");
+    }
+
+    private static String likePrefix(String prefix) {
+        return escapeLike(prefix) + "%";
+    }
+
+    private static String escapeLike(String value) {
+        return value
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -1,16 +1,21 @@
 package com.mysite.cloudfilestorage.service.resource.move;
 
+import com.mysite.cloudfilestorage.dto.ParallelResult;
 import com.mysite.cloudfilestorage.dto.ResourceResponse;
 import com.mysite.cloudfilestorage.exception.minio.InvalidOperationException;
-import com.mysite.cloudfilestorage.exception.minio.ResourceAlreadyExistsException;
-import com.mysite.cloudfilestorage.service.minio.MinioStorageService;
+import com.mysite.cloudfilestorage.exception.minio.ResourceMoveFailedException;
+import com.mysite.cloudfilestorage.model.ResourceMetadata;
+import com.mysite.cloudfilestorage.service.resource.common.BoundedParallelExecutor;
 import com.mysite.cloudfilestorage.service.resource.common.ResourceKeyService;
 import com.mysite.cloudfilestorage.service.resource.common.ResourceLookupService;
+import com.mysite.cloudfilestorage.service.resource.index.ResourceIndexService;
+import com.mysite.cloudfilestorage.service.storage.ObjectStore;
 import com.mysite.cloudfilestorage.util.PathUtil;
 import com.mysite.cloudfilestorage.validation.PathValidator;
-import io.minio.StatObjectResponse;
-import io.minio.messages.Item;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -18,9 +23,11 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ResourceMoveService {
 
-    private final MinioStorageService minioStorageService;
+    private final ObjectStore objectStore;
+    private final BoundedParallelExecutor copyParallelExecutor;
     private final ResourceKeyService keyService;
     private final ResourceLookupService lookupService;
+    private final ResourceIndexService indexService;
     private final PathValidator pathValidator;
 
     public ResourceResponse moveResource(String from, String to) throws Exception {
@@ -29,33 +36,43 @@ public class ResourceMoveService {
 
         Long userId = keyService.getUserId();
         String key = keyService.getKey(userId, from);
+        String newKey = keyService.getKey(userId, to);
 
         if (PathUtil.isDirectory(from)) {
-            return moveDirectory(key, from, to);
+            return moveDirectory(userId, key, newKey, from, to);
         } else {
-            String newKey = keyService.getKey(userId, to);
             return moveFile(key, newKey, from, to);
         }
     }
 
-    private ResourceResponse moveDirectory(String key, String from, String to) throws Exception {
+    private ResourceResponse moveDirectory(Long userId, String key, String newKey, String from, String to)
+            throws Exception {
         if (PathUtil.isPathEmpty(to)) {
             return lookupService.getDirectoryResource(key);
         } else if (PathUtil.isMove(from, to) || PathUtil.isRename(from, to)) {
-            return moveDirectoryResource(key, from, to);
+            return moveDirectoryResource(userId, key, newKey, from, to);
         } else {
             throw new InvalidOperationException("The paths differ");
         }
     }
 
-    private ResourceResponse moveDirectoryResource(String key, String from, String to) throws Exception {
-        List<Item> objects = minioStorageService.getListObjects(key, true);
+    private ResourceResponse moveDirectoryResource(Long userId, String key, String newKey, String from, String to)
+            throws Exception {
+        pathValidator.validateResourceExists(indexService.exists(key));
+        pathValidator.validateResourceIsNotExists(indexService.isOccupied(newKey));
+
+        List<ResourceMetadata> objects = indexService.findStoredObjects(key);
 
         List<String> objectsNames = objects
                 .stream()
-                .map(Item::objectName)
+                .map(ResourceMetadata::getPath)
                 .toList();
 
+        Map<String, Long> objectsSizes = objects
+                .stream()
+                .collect(Collectors.toMap(ResourceMetadata::getPath,
+                        object -> object.getSize() == null ? 0L : object.getSize()));
+
         List<String> newObjectsNames = objectsNames
                 .stream()
                 .map(objectName -> PathUtil.buildMovedFileKey(objectName, from, to))
@@ -63,13 +80,31 @@ public class ResourceMoveService {
 
         pathValidator.validateNewObjectsNamesForCreating(objectsNames, newObjectsNames);
 
-        for (int i = 0; i < objectsNames.size(); i++) {
-            minioStorageService.copyObject(objectsNames.get(i), newObjectsNames.get(i));
+        boolean atomicMove = objectStore.supportsAtomicMove();
+        ParallelResult<String> copyResult = copyParallelExecutor.runAll(objectsNames, Function.identity(),
+                objectName -> {
+                    String newObjectName = PathUtil.buildMovedFileKey(objectName, from, to);
+                    if (atomicMove) {
+                        objectStore.move(objectName, newObjectName, objectsSizes.get(objectName));
+                    } else {
+                        objectStore.copy(objectName, newObjectName, objectsSizes.get(objectName));
+                    }
+                    return newObjectName;
+                });
+
+        if (!atomicMove) {
+            objectStore.deleteAll(List.copyOf(copyResult.completed().keySet()));
+        }
+
+        if (copyResult.hasFailures()) {
+            indexService.moveObjects(userId, copyResult.completed(), copyResult.failedKeys().keySet());
+            throw new ResourceMoveFailedException("Failed to move " + copyResult.failedKeys().size()
+                    + " of " + objectsNames.size() + " objects");
         }
 
-        minioStorageService.removeObjects(objects);
+        indexService.moveDirectory(key, newKey);
 
-        return lookupService.getDirectoryResource(newObjectsNames.getFirst());
+        return lookupService.getDirectoryResource(newKey);
     }
 
     private ResourceResponse moveFile(String oldKey, String newKey, String from, String to) throws Exception {
@@ -77,44 +112,26 @@ public class ResourceMoveService {
             return moveFileResourceToRootDirectory(oldKey, newKey);
         }
         if (PathUtil.isMove(from, to) || PathUtil.isRename(from, to)) {
-            return moveFileResourceToDirectory(oldKey, newKey);
+            return moveFileResource(oldKey, newKey);
         } else {
             throw new InvalidOperationException("The paths differ");
         }
     }
 
     private ResourceResponse moveFileResourceToRootDirectory(String oldKey, String newKey) throws Exception {
-        List<String> objectsNames = minioStorageService.getListObjects(newKey, false)
-                .stream()
-                .map(Item::objectName)
-                .toList();
-
         String fileName = PathUtil.getNameForFile(oldKey);
         newKey = newKey + fileName;
 
-        return moveFileResource(oldKey, newKey, objectsNames);
+        return moveFileResource(oldKey, newKey);
     }
 
-    private ResourceResponse moveFileResourceToDirectory(String oldKey, String newKey) throws Exception {
-        String folderPath = PathUtil.getParentDirectoryKey(newKey);
-
-        List<String> objectsNames = minioStorageService.getListObjects(folderPath, false)
-                .stream()
-                .map(Item::objectName)
-                .toList();
-
-        return moveFileResource(oldKey, newKey, objectsNames);
-    }
-
-    private ResourceResponse moveFileResource(String oldKey, String newKey, List<String> objectsNames) throws Exception {
-        if (objectsNames.contains(newKey)) {
-            throw new ResourceAlreadyExistsException("The resource on the way to already exists");
-        }
+    private ResourceResponse moveFileResource(String oldKey, String newKey) throws Exception {
+        pathValidator.validateResourceIsNotExists(indexService.isOccupied(newKey));
 
-        StatObjectResponse fileStatResponseForRemove = lookupService.getFileStatResponse(oldKey);
+        ResourceMetadata file = lookupService.getFileMetadata(oldKey);
 
-        minioStorageService.copyObject(oldKey, newKey);
-        minioStorageService.removeObject(fileStatResponseForRemove);
+        objectStore.move(oldKey, newKey, file.getSize());
+        indexService.moveFile(oldKey, newKey);
 
         return lookupService.getFileResource(newKey);
     }
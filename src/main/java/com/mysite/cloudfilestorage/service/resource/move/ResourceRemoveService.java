@@ -1,12 +1,12 @@
 package com.mysite.cloudfilestorage.service.resource.move;
 
-import com.mysite.cloudfilestorage.service.minio.MinioStorageService;
+import com.mysite.cloudfilestorage.model.ResourceMetadata;
 import com.mysite.cloudfilestorage.service.resource.common.ResourceKeyService;
 import com.mysite.cloudfilestorage.service.resource.common.ResourceLookupService;
+import com.mysite.cloudfilestorage.service.resource.index.ResourceIndexService;
+import com.mysite.cloudfilestorage.service.storage.ObjectStore;
 import com.mysite.cloudfilestorage.util.PathUtil;
 import com.mysite.cloudfilestorage.validation.PathValidator;
-import io.minio.StatObjectResponse;
-import io.minio.messages.Item;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -15,9 +15,10 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ResourceRemoveService {
 
-    private final MinioStorageService minioStorageService;
+    private final ObjectStore objectStore;
     private final ResourceKeyService keyService;
     private final ResourceLookupService lookupService;
+    private final ResourceIndexService indexService;
     private final PathValidator pathValidator;
 
     public void removeResource(String path) throws Exception {
@@ -34,14 +35,21 @@ public class ResourceRemoveService {
     }
 
     private void removeFileResource(String key) throws Exception {
-        StatObjectResponse fileStatResponseForRemove = lookupService.getFileStatResponse(key);
-        minioStorageService.removeObject(fileStatResponseForRemove);
+        lookupService.getFileMetadata(key);
+
+        objectStore.delete(key);
+        indexService.remove(key);
     }
 
     private void removeDirectoryResource(String key) throws Exception {
-        List<Item> objects = minioStorageService.getListObjects(key, true);
-        pathValidator.validateDirectoryIsEmpty(objects);
+        pathValidator.validateResourceExists(indexService.exists(key));
+
+        List<String> objectsNames = indexService.findStoredObjects(key)
+                .stream()
+                .map(ResourceMetadata::getPath)
+                .toList();
 
-        minioStorageService.removeObjects(objects);
+        objectStore.deleteAll(objectsNames);
+        indexService.removeDirectory(key);
     }
 }
@@ -1,28 +1,32 @@
 package com.mysite.cloudfilestorage.service.resource.query;
 
+import com.mysite.cloudfilestorage.dto.DirectoryCursor;
+import com.mysite.cloudfilestorage.dto.ResourcePage;
 import com.mysite.cloudfilestorage.dto.ResourceResponse;
+import com.mysite.cloudfilestorage.dto.ResourceType;
+import com.mysite.cloudfilestorage.dto.ResourceVersion;
+import com.mysite.cloudfilestorage.exception.minio.ResourceIsNotFoundException;
+import com.mysite.cloudfilestorage.model.ResourceMetadata;
 import com.mysite.cloudfilestorage.service.minio.MinioKeyBuilder;
-import com.mysite.cloudfilestorage.service.minio.MinioStorageService;
 import com.mysite.cloudfilestorage.service.resource.common.ResourceKeyService;
 import com.mysite.cloudfilestorage.service.resource.common.ResourceLookupService;
+import com.mysite.cloudfilestorage.service.resource.index.ResourceIndexService;
 import com.mysite.cloudfilestorage.service.resource.util.ResourceMapper;
 import com.mysite.cloudfilestorage.util.PathUtil;
 import com.mysite.cloudfilestorage.validation.PathValidator;
 import com.mysite.cloudfilestorage.validation.QueryValidator;
-import io.minio.messages.Item;
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 
 @Service
 @RequiredArgsConstructor
 public class ResourceQueryService {
 
     private final MinioKeyBuilder minioKeyBuilder;
-    private final MinioStorageService minioStorageService;
+    private final ResourceIndexService indexService;
     private final ResourceKeyService keyService;
     private final ResourceLookupService lookupService;
     private final ResourceMapper mapper;
@@ -46,42 +50,77 @@ public class ResourceQueryService {
         }
     }
 
-    public List<ResourceResponse> getResourceForDirectory(String path) throws Exception {
+    public ResourceVersion getResourceVersion(String path) throws Exception {
+        Long userId = keyService.getUserId();
+        String key = keyService.getKey(userId, path);
+
+        pathValidator.validatePath(path);
+
+        if (PathUtil.isDirectory(path)) {
+            ResourceMetadata directory = getDirectoryMetadata(key);
+            return new ResourceVersion(buildEtag(directory), directory.getModifiedAt());
+        }
+
+        ResourceMetadata file = lookupService.getFileMetadata(key);
+        String etag = file.getEtag() == null ? buildEtag(file) : "\"" + file.getEtag() + "\"";
+
+        return new ResourceVersion(etag, file.getModifiedAt());
+    }
+
+    public ResourceVersion getDirectoryVersion(String path, int limit, String cursor) throws Exception {
+        Long userId = keyService.getUserId();
+        String key = keyService.getKey(userId, path);
+
+        pathValidator.validatePath(path);
+        pathValidator.validateIsDirectory(path);
+        queryValidator.validateLimit(limit);
+
+        ResourceMetadata directory = getDirectoryMetadata(key);
+
+        return new ResourceVersion(buildEtag(directory, limit + ":" + cursor), directory.getModifiedAt());
+    }
+
+    public ResourcePage getResourceForDirectory(String path, int limit, String cursor) throws Exception {
         Long userId = keyService.getUserId();
         String key = keyService.getKey(userId, path);
-        String userDirectoryName = minioKeyBuilder.buildUserDirectoryName(userId);
 
         pathValidator.validatePath(path);
         pathValidator.validateIsDirectory(path);
+        queryValidator.validateLimit(limit);
 
-        List<Item> objects = minioStorageService.getListObjects(key, false);
-        pathValidator.validateDirectoryIsEmpty(objects);
+        DirectoryCursor directoryCursor = cursor == null ? null : DirectoryCursor.decode(cursor);
+        pathValidator.validateResourceExists(indexService.exists(key));
 
-        List<String> objectsNames = new ArrayList<>(objects
-                .stream()
-                .map(Item::objectName)
-                .toList());
+        List<ResourceMetadata> children = indexService.findChildren(key, directoryCursor, limit + 1);
+        String nextCursor = null;
 
-        objectsNames.removeIf(objectsName -> objectsName.equals(userDirectoryName));
+        if (children.size() > limit) {
+            children = children.subList(0, limit);
+            ResourceMetadata lastChild = children.getLast();
+            nextCursor = new DirectoryCursor(lastChild.getType(), lastChild.getName()).encode();
+        }
 
-        return mapper.toDirectoryFilesResourceResponse(objectsNames, objectName -> true);
+        return new ResourcePage(mapper.toResourceResponses(children), nextCursor);
     }
 
-    public List<ResourceResponse> searchResource(String query) throws Exception {
+    public List<ResourceResponse> searchResource(String query, int limit, int offset) throws Exception {
         queryValidator.validateQuery(query);
+        queryValidator.validatePage(limit, offset);
 
         Long userId = keyService.getUserId();
-        String userDirectoryName = minioKeyBuilder.buildUserDirectoryName(userId);
 
-        Set<String> subKeys = new HashSet<>();
+        return mapper.toResourceResponses(indexService.search(userId, query, limit, offset));
+    }
 
-        List<Item> listObjects = minioStorageService.getListObjects(userDirectoryName, true);
+    private ResourceMetadata getDirectoryMetadata(String key) {
+        return indexService.find(key)
+                .filter(resource -> resource.getType() == ResourceType.DIRECTORY)
+                .orElseThrow(() -> new ResourceIsNotFoundException("The resource was not found"));
+    }
 
-        for (Item item : listObjects) {
-            List<String> foundSubKeys = PathUtil.getSubKeys(item.objectName(), query);
-            subKeys.addAll(foundSubKeys);
-        }
+    private static String buildEtag(ResourceMetadata resource, String... parts) {
+        String version = resource.getPath() + ":" + resource.getModifiedAt() + ":" + String.join(":", parts);
 
-        return mapper.toDirectoryFilesResourceResponse(subKeys, subkey -> !subkey.equals(userDirectoryName));
+        return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
     }
 }
@@ -1,22 +1,35 @@
 package com.mysite.cloudfilestorage.service.resource.upload;
 
+import com.google.common.io.CountingInputStream;
+import com.mysite.cloudfilestorage.config.minio.MinioProperties;
+import com.mysite.cloudfilestorage.dto.ParallelResult;
 import com.mysite.cloudfilestorage.dto.ResourceResponse;
 import com.mysite.cloudfilestorage.dto.UploadResourceData;
+import com.mysite.cloudfilestorage.dto.UploadedObject;
+import com.mysite.cloudfilestorage.exception.minio.InvalidRequestBodyException;
+import com.mysite.cloudfilestorage.exception.minio.ResourceTooLargeException;
+import com.mysite.cloudfilestorage.exception.minio.ResourceUploadFailedException;
 import com.mysite.cloudfilestorage.mapper.ResourceResponseMapper;
 import com.mysite.cloudfilestorage.service.minio.MinioKeyBuilder;
-import com.mysite.cloudfilestorage.service.minio.MinioStorageService;
+import com.mysite.cloudfilestorage.service.resource.common.BoundedParallelExecutor;
+import com.mysite.cloudfilestorage.service.resource.common.ResourceConflictService;
 import com.mysite.cloudfilestorage.service.resource.common.ResourceKeyService;
+import com.mysite.cloudfilestorage.service.resource.index.ResourceIndexService;
+import com.mysite.cloudfilestorage.service.storage.ObjectStore;
 import com.mysite.cloudfilestorage.util.PathUtil;
 import com.mysite.cloudfilestorage.validation.MultipartValidator;
 import com.mysite.cloudfilestorage.validation.PathValidator;
-import io.minio.messages.Item;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.core.FileUploadException;
+import org.apache.commons.fileupload2.core.FileUploadSizeException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -24,12 +37,18 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class ResourceUploadService {
 
+    private static final String RESOURCE_PART_NAME = "resource";
+
     private final MinioKeyBuilder minioKeyBuilder;
-    private final MinioStorageService minioStorageService;
+    private final ObjectStore objectStore;
     private final ResourceKeyService keyService;
+    private final ResourceIndexService indexService;
+    private final ResourceConflictService conflictService;
     private final ResourceResponseMapper responseMapper;
     private final PathValidator pathValidator;
     private final MultipartValidator multipartValidator;
+    private final MinioProperties minioProperties;
+    private final BoundedParallelExecutor uploadParallelExecutor;
 
     public List<ResourceResponse> uploadResource(String path, List<MultipartFile> resource) throws Exception {
         pathValidator.validatePath(path);
@@ -54,34 +73,109 @@ public class ResourceUploadService {
                 })
                 .toList();
 
-        Set<String> uniqueKeysDirectories = uploadResourceData.stream()
-                .map(resourceData -> PathUtil.getParentDirectoryKey(resourceData.key()))
-                .collect(Collectors.toSet());
-        List<Item> pathObjects = new ArrayList<>();
-        for (String uniqueKeysDirectory : uniqueKeysDirectories) {
-            pathObjects.addAll(minioStorageService.getListObjects(uniqueKeysDirectory, true));
-        }
-
-        List<String> pathObjectsNames = pathObjects.stream()
-                .map(Item::objectName)
-                .toList();
-
         List<String> uploadedObjectsNames = uploadResourceData.stream()
                 .map(UploadResourceData::key)
                 .toList();
 
-        pathValidator.validateNewObjectsNamesForCreating(pathObjectsNames, uploadedObjectsNames);
+        conflictService.validateKeysAreFree(uploadedObjectsNames);
 
-        for (UploadResourceData resourceData : uploadResourceData) {
-            minioStorageService.uploadObject(resourceData.key(), resourceData.inputStream(), resourceData.size());
+        ParallelResult<UploadedObject> uploadResult = uploadParallelExecutor.runAll(uploadResourceData,
+                UploadResourceData::key, resourceData -> {
+                    String etag = objectStore.put(resourceData.key(), resourceData.inputStream(), resourceData.size());
+                    return new UploadedObject(resourceData.key(), resourceData.size(), etag);
+                });
+
+        if (uploadResult.hasFailures()) {
+            List<String> uploadedKeys = List.copyOf(uploadResult.completed().keySet());
+
+            ResourceUploadFailedException exception = new ResourceUploadFailedException("Failed to upload "
+                    + uploadResult.failedKeys().size() + " of " + uploadResourceData.size() + " files");
+            removeUploadedObjects(uploadedKeys, exception);
+            throw exception;
         }
 
-        return uploadResourceData.stream()
-                .map(resourceData -> responseMapper.toFileResourceResponse(
-                        resourceData.folderPath(), resourceData.name(), resourceData.size()))
+        return indexUploadedObjects(userId, List.copyOf(uploadResult.completed().values()));
+    }
+
+    public List<ResourceResponse> uploadResource(String path, FileItemInputIterator resource) throws Exception {
+        pathValidator.validatePath(path);
+        pathValidator.validateIsDirectory(path);
+
+        Long userId = keyService.getUserId();
+        resource.setFileSizeMax(minioProperties.getUpload().getMaxFileSize().toBytes());
+
+        List<UploadedObject> uploadedObjects = new ArrayList<>();
+        Set<String> uploadedKeys = new HashSet<>();
+
+        try {
+            while (resource.hasNext()) {
+                FileItemInput itemResource = resource.next();
+
+                if (itemResource.isFormField() || !RESOURCE_PART_NAME.equals(itemResource.getFieldName())) {
+                    continue;
+                }
+
+                String originalFilename = itemResource.getName();
+                multipartValidator.validateUploadedFileName(originalFilename);
+
+                String itemResourceObjectKey = keyService.getKey(userId, path + originalFilename);
+                pathValidator.validateResourceIsNotExists(
+                        uploadedKeys.contains(itemResourceObjectKey) || indexService.isOccupied(itemResourceObjectKey));
+
+                CountingInputStream inputStream = new CountingInputStream(itemResource.getInputStream());
+                String etag = objectStore.put(itemResourceObjectKey, inputStream, null);
+                uploadedKeys.add(itemResourceObjectKey);
+                uploadedObjects.add(new UploadedObject(itemResourceObjectKey, inputStream.getCount(), etag));
+
+                multipartValidator.validateUploadedFileSize(inputStream.getCount());
+            }
+        } catch (Exception exception) {
+            removeUploadedObjects(List.copyOf(uploadedKeys), exception);
+            throw translateUploadException(exception);
+        }
+
+        if (uploadedObjects.isEmpty()) {
+            throw new InvalidRequestBodyException("Invalid request body");
+        }
+
+        return indexUploadedObjects(userId, uploadedObjects);
+    }
+
+    public List<ResourceResponse> indexUploadedObjects(Long userId, List<UploadedObject> uploadedObjects) {
+        for (UploadedObject uploadedObject : uploadedObjects) {
+            indexService.addFile(userId, uploadedObject.key(), uploadedObject.size(), uploadedObject.etag());
+        }
+
+        return uploadedObjects.stream()
+                .map(uploadedObject -> responseMapper.toFileResourceResponse(
+                        PathUtil.getParentPathOfFile(uploadedObject.key()),
+                        PathUtil.getNameForFile(uploadedObject.key()),
+                        uploadedObject.size()))
                 .toList();
     }
 
+    private void removeUploadedObjects(List<String> uploadedKeys, Exception exception) {
+        if (uploadedKeys.isEmpty()) {
+            return;
+        }
+
+        try {
+            objectStore.deleteAll(uploadedKeys);
+        } catch (Exception removeException) {
+            exception.addSuppressed(removeException);
+        }
+    }
+
+    private Exception translateUploadException(Exception exception) {
+        if (exception instanceof FileUploadSizeException) {
+            return new ResourceTooLargeException("The uploaded resource is too large");
+        }
+        if (exception instanceof FileUploadException) {
+            return new InvalidRequestBodyException("Invalid request body");
+        }
+        return exception;
+    }
+
     public ResourceResponse createEmptyDirectoryResource(String path) throws Exception {
         pathValidator.validateInitialPath(path);
         pathValidator.validateIsDirectory(path);
@@ -90,17 +184,16 @@ public class ResourceUploadService {
         String key = keyService.getKey(userId, path);
         String userDirectoryName = minioKeyBuilder.buildUserDirectoryName(userId);
 
-        List<Item> objects = minioStorageService.getListObjects(key, false);
-        pathValidator.validateDirectoryIsNotEmpty(objects);
+        pathValidator.validateDirectoryIsNotExists(indexService.isOccupied(key));
 
         String parentKey = PathUtil.getParentDirectoryKey(key);
 
         if (!parentKey.equals(userDirectoryName)) {
-            objects = minioStorageService.getListObjects(parentKey, false);
-            pathValidator.validateParentDirectoryIsEmpty(objects);
+            pathValidator.validateParentDirectoryExists(indexService.exists(parentKey));
         }
 
-        minioStorageService.uploadObject(key, new ByteArrayInputStream(new byte[]{}), 0L);
+        objectStore.put(key, new ByteArrayInputStream(new byte[]{}), 0L);
+        indexService.addDirectory(userId, key);
 
         return responseMapper.toDirectoryResourceResponse(key);
     }
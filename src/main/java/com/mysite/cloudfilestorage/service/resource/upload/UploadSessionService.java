@@ -0,0 +1,202 @@
+package com.mysite.cloudfilestorage.service.resource.upload;
+
+import com.mysite.cloudfilestorage.config.minio.MinioProperties;
+import com.mysite.cloudfilestorage.dto.ResourceResponse;
+import com.mysite.cloudfilestorage.dto.StoredPart;
+import com.mysite.cloudfilestorage.dto.UploadSessionResponse;
+import com.mysite.cloudfilestorage.dto.UploadedObject;
+import com.mysite.cloudfilestorage.exception.minio.InvalidQueryException;
+import com.mysite.cloudfilestorage.exception.minio.InvalidRequestBodyException;
+import com.mysite.cloudfilestorage.exception.minio.ResourceIsNotFoundException;
+import com.mysite.cloudfilestorage.exception.minio.ResourceTooLargeException;
+import com.mysite.cloudfilestorage.model.UploadSession;
+import com.mysite.cloudfilestorage.repository.UploadSessionRepository;
+import com.mysite.cloudfilestorage.service.minio.MinioKeyBuilder;
+import com.mysite.cloudfilestorage.service.resource.common.ResourceConflictService;
+import com.mysite.cloudfilestorage.service.resource.common.ResourceKeyService;
+import com.mysite.cloudfilestorage.service.resource.index.ResourceIndexService;
+import com.mysite.cloudfilestorage.service.storage.ObjectStore;
+import com.mysite.cloudfilestorage.util.PathUtil;
+import com.mysite.cloudfilestorage.validation.PathValidator;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadSessionService {
+
+    private static final int MAX_CHUNKS_COUNT = 10_000;
+    private static final int EXPIRED_SESSIONS_BATCH_SIZE = 100;
+
+    private final UploadSessionRepository sessionRepository;
+    private final ObjectStore objectStore;
+    private final ResourceKeyService keyService;
+    private final ResourceConflictService conflictService;
+    private final ResourceIndexService indexService;
+    private final MinioKeyBuilder minioKeyBuilder;
+    private final ResourceUploadService uploadService;
+    private final PathValidator pathValidator;
+    private final MinioProperties minioProperties;
+
+    public UploadSessionResponse createSession(String path) throws Exception {
+        pathValidator.validateInitialPath(path);
+        pathValidator.validateIsFile(path);
+
+        Long userId = keyService.getUserId();
+        String key = keyService.getKey(userId, path);
+
+        conflictService.validateKeysAreFree(List.of(key));
+
+        String parentKey = PathUtil.getParentKey(key);
+        if (!parentKey.equals(minioKeyBuilder.buildUserDirectoryName(userId))) {
+            pathValidator.validateParentDirectoryExists(indexService.exists(parentKey));
+        }
+
+        UploadSession session = sessionRepository.save(UploadSession.builder()
+                .userId(userId)
+                .path(path)
+                .objectKey(key)
+                .uploadId(objectStore.createMultipartUpload(key))
+                .createdAt(Instant.now())
+                .build());
+
+        return toResponse(session, List.of());
+    }
+
+    public UploadSessionResponse getSession(UUID id) throws Exception {
+        UploadSession session = getUserSession(id);
+
+        return toResponse(session, objectStore.listParts(session.getObjectKey(), session.getUploadId()));
+    }
+
+    public void uploadChunk(UUID id, int number, InputStream inputStream, long size) throws Exception {
+        validateChunkBounds(number, size);
+
+        UploadSession session = getUserSession(id);
+
+        objectStore.uploadPart(session.getObjectKey(), session.getUploadId(), number, inputStream, size);
+    }
+
+    public void validateChunk(UUID id, int number, long size) throws Exception {
+        validateChunkBounds(number, size);
+
+        UploadSession session = getUserSession(id);
+        long minChunkSize = minioProperties.getUpload().getMinChunkSize().toBytes();
+
+        for (StoredPart part : objectStore.listParts(session.getObjectKey(), session.getUploadId())) {
+            if ((part.partNumber() < number && part.size() < minChunkSize)
+                    || (part.partNumber() > number && size < minChunkSize)) {
+                throw new InvalidRequestBodyException("Every chunk except the last one must be at least "
+                        + minioProperties.getUpload().getMinChunkSize().toMegabytes() + "MB");
+            }
+        }
+    }
+
+    public ResourceResponse completeSession(UUID id) throws Exception {
+        UploadSession session = getUserSession(id);
+
+        conflictService.validateKeysAreFree(List.of(session.getObjectKey()));
+
+        List<StoredPart> parts = objectStore.listParts(session.getObjectKey(), session.getUploadId())
+                .stream()
+                .sorted(Comparator.comparingInt(StoredPart::partNumber))
+                .toList();
+
+        validateChunksAreComplete(parts);
+
+        String etag = objectStore.completeMultipartUpload(session.getObjectKey(), session.getUploadId(), parts);
+
+        sessionRepository.delete(session);
+
+        long size = parts.stream()
+                .mapToLong(StoredPart::size)
+                .sum();
+
+        return uploadService.indexUploadedObjects(session.getUserId(),
+                List.of(new UploadedObject(session.getObjectKey(), size, etag))).getFirst();
+    }
+
+    public void abortSession(UUID id) throws Exception {
+        UploadSession session = getUserSession(id);
+
+        objectStore.abortMultipartUpload(session.getObjectKey(), session.getUploadId());
+        sessionRepository.delete(session);
+    }
+
+    @Scheduled(fixedDelayString = "${minio.upload.session-sweep-interval:10m}")
+    public void removeExpiredSessions() {
+        Instant expiredBefore = Instant.now().minus(minioProperties.getUpload().getSessionTtl());
+        List<UploadSession> sessions;
+        int removed;
+
+        do {
+            sessions = sessionRepository.findTop100ByCreatedAtBeforeOrderByCreatedAt(expiredBefore);
+            removed = 0;
+
+            for (UploadSession session : sessions) {
+                if (removeExpiredSession(session)) {
+                    removed++;
+                }
+            }
+        } while (sessions.size() == EXPIRED_SESSIONS_BATCH_SIZE && removed == sessions.size());
+    }
+
+    private boolean removeExpiredSession(UploadSession session) {
+        try {
+            objectStore.abortMultipartUpload(session.getObjectKey(), session.getUploadId());
+        } catch (ResourceIsNotFoundException ignored) {
+            // the multipart upload is already gone, only the session row is left
+        } catch (Exception exception) {
+            log.warn("Failed to abort expired upload session {}", session.getId(), exception);
+            return false;
+        }
+
+        sessionRepository.delete(session);
+        return true;
+    }
+
+    private void validateChunkBounds(int number, long size) {
+        if (number < 1 || number > MAX_CHUNKS_COUNT) {
+            throw new InvalidQueryException("Invalid chunk number");
+        }
+        if (size <= 0) {
+            throw new InvalidRequestBodyException("Invalid request body");
+        }
+        if (size > minioProperties.getUpload().getMaxChunkSize().toBytes()) {
+            throw new ResourceTooLargeException("The chunk is too large");
+        }
+    }
+
+    private UploadSession getUserSession(UUID id) throws Exception {
+        return sessionRepository.findByIdAndUserId(id, keyService.getUserId())
+                .orElseThrow(() -> new ResourceIsNotFoundException("The upload session was not found"));
+    }
+
+    private void validateChunksAreComplete(List<StoredPart> parts) {
+        if (parts.isEmpty() || parts.getLast().partNumber() != parts.size()) {
+            throw new InvalidRequestBodyException("Some chunks are missing");
+        }
+    }
+
+    private UploadSessionResponse toResponse(UploadSession session, List<StoredPart> parts) {
+        return UploadSessionResponse.builder()
+                .id(session.getId())
+                .path(session.getPath())
+                .uploadedChunks(parts.stream()
+                        .map(StoredPart::partNumber)
+                        .sorted()
+                        .toList())
+                .uploadedSize(parts.stream()
+                        .mapToLong(StoredPart::size)
+                        .sum())
+                .build();
+    }
+}
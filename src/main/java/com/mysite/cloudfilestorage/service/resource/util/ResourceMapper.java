@@ -2,14 +2,10 @@ package com.mysite.cloudfilestorage.service.resource.util;
 
 import com.mysite.cloudfilestorage.dto.ResourceResponse;
 import com.mysite.cloudfilestorage.dto.ResourceType;
-import com.mysite.cloudfilestorage.exception.minio.ResourceIsNotFoundException;
 import com.mysite.cloudfilestorage.mapper.ResourceResponseMapper;
-import com.mysite.cloudfilestorage.service.resource.common.ResourceLookupService;
+import com.mysite.cloudfilestorage.model.ResourceMetadata;
 import com.mysite.cloudfilestorage.util.PathUtil;
-import java.util.Collection;
-import java.util.Comparator;
 import java.util.List;
-import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -17,7 +13,6 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ResourceMapper {
 
-    private final ResourceLookupService lookupService;
     private final ResourceResponseMapper responseMapper;
 
     public ResourceResponse toDirectoryDefaultResourceResponse() {
@@ -28,23 +23,21 @@ public class ResourceMapper {
                 .build();
     }
 
-    public List<ResourceResponse> toDirectoryFilesResourceResponse(Collection<String> keys, Predicate<String> filter) {
-        return keys
+    public List<ResourceResponse> toResourceResponses(List<ResourceMetadata> resources) {
+        return resources
                 .stream()
-                .filter(filter)
-                .map(subKey -> {
-                    if (PathUtil.isDirectory(subKey)) {
-                        return responseMapper.toDirectoryResourceResponse(subKey);
-                    }
-                    try {
-                        return lookupService.getFileResource(subKey);
-                    } catch (Exception exception) {
-                        throw new ResourceIsNotFoundException("The resource was not found");
-                    }
-                })
-                .sorted(Comparator.comparing(ResourceResponse::getType)
-                        .thenComparing(ResourceResponse::getPath)
-                )
+                .map(this::toResourceResponse)
                 .toList();
     }
+
+    public ResourceResponse toResourceResponse(ResourceMetadata resource) {
+        String objectName = resource.getPath();
+
+        if (resource.getType() == ResourceType.DIRECTORY) {
+            return responseMapper.toDirectoryResourceResponse(objectName);
+        }
+
+        return responseMapper.toFileResourceResponse(
+                PathUtil.getParentPathOfFile(objectName), resource.getName(), resource.getSize());
+    }
 }
@@ -0,0 +1,136 @@
+package com.mysite.cloudfilestorage.service.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.mysite.cloudfilestorage.dto.StoredObject;
+import com.mysite.cloudfilestorage.dto.StoredPart;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class CachingObjectStore implements ObjectStore {
+
+    private final ObjectStore delegate;
+    private final Cache<String, StoredObject> objectStatCache;
+
+    @Override
+    public List<StoredObject> list(String prefix) throws Exception {
+        return delegate.list(prefix);
+    }
+
+    @Override
+    public StoredObject stat(String key) throws Exception {
+        StoredObject cachedObject = objectStatCache.getIfPresent(key);
+        if (cachedObject != null) {
+            return cachedObject;
+        }
+
+        StoredObject object = delegate.stat(key);
+        objectStatCache.put(key, object);
+
+        return object;
+    }
+
+    @Override
+    public InputStream get(String key) throws Exception {
+        return delegate.get(key);
+    }
+
+    @Override
+    public InputStream get(String key, long offset, long length) throws Exception {
+        return delegate.get(key, offset, length);
+    }
+
+    @Override
+    public long transferTo(String key, long offset, long length, OutputStream outputStream) throws Exception {
+        return delegate.transferTo(key, offset, length, outputStream);
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return delegate.localPath(key);
+    }
+
+    @Override
+    public String put(String key, InputStream inputStream, Long size) throws Exception {
+        try {
+            return delegate.put(key, inputStream, size);
+        } finally {
+            objectStatCache.invalidate(key);
+        }
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey, long size) throws Exception {
+        try {
+            delegate.copy(sourceKey, targetKey, size);
+        } finally {
+            objectStatCache.invalidate(targetKey);
+        }
+    }
+
+    @Override
+    public boolean supportsAtomicMove() {
+        return delegate.supportsAtomicMove();
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey, long size) throws Exception {
+        try {
+            delegate.move(sourceKey, targetKey, size);
+        } finally {
+            objectStatCache.invalidateAll(List.of(sourceKey, targetKey));
+        }
+    }
+
+    @Override
+    public void delete(String key) throws Exception {
+        try {
+            delegate.delete(key);
+        } finally {
+            objectStatCache.invalidate(key);
+        }
+    }
+
+    @Override
+    public void deleteAll(List<String> keys) throws Exception {
+        try {
+            delegate.deleteAll(keys);
+        } finally {
+            objectStatCache.invalidateAll(keys);
+        }
+    }
+
+    @Override
+    public String createMultipartUpload(String key) throws Exception {
+        return delegate.createMultipartUpload(key);
+    }
+
+    @Override
+    public String uploadPart(String key, String uploadId, int partNumber, InputStream inputStream, long size)
+            throws Exception {
+        return delegate.uploadPart(key, uploadId, partNumber, inputStream, size);
+    }
+
+    @Override
+    public List<StoredPart> listParts(String key, String uploadId) throws Exception {
+        return delegate.listParts(key, uploadId);
+    }
+
+    @Override
+    public String completeMultipartUpload(String key, String uploadId, List<StoredPart> parts) throws Exception {
+        try {
+            return delegate.completeMultipartUpload(key, uploadId, parts);
+        } finally {
+            objectStatCache.invalidate(key);
+        }
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) throws Exception {
+        delegate.abortMultipartUpload(key, uploadId);
+    }
+}
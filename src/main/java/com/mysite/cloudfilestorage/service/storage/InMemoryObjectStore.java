@@ -0,0 +1,224 @@
+package com.mysite.cloudfilestorage.service.storage;
+
+import com.mysite.cloudfilestorage.config.storage.StorageProperties;
+import com.mysite.cloudfilestorage.dto.StoredObject;
+import com.mysite.cloudfilestorage.dto.StoredPart;
+import com.mysite.cloudfilestorage.exception.minio.InvalidRequestBodyException;
+import com.mysite.cloudfilestorage.exception.minio.ResourceIsNotFoundException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(prefix = "storage", name = "backend", havingValue = "memory")
+public class InMemoryObjectStore implements ObjectStore {
+
+    private final StorageProperties.Memory settings;
+    private final NavigableMap<String, MemoryObject> objects = new ConcurrentSkipListMap<>();
+    private final Map<String, NavigableMap<Integer, MemoryObject>> uploads = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    public InMemoryObjectStore(StorageProperties storageProperties) {
+        this.settings = storageProperties.getMemory();
+    }
+
+    @Override
+    public List<StoredObject> list(String prefix) throws Exception {
+        simulate("list");
+
+        List<StoredObject> storedObjects = new ArrayList<>();
+        objects.tailMap(prefix, true).entrySet()
+                .stream()
+                .takeWhile(entry -> entry.getKey().startsWith(prefix))
+                .forEach(entry -> storedObjects.add(entry.getValue().toStoredObject(entry.getKey())));
+
+        return storedObjects;
+    }
+
+    @Override
+    public StoredObject stat(String key) throws Exception {
+        simulate("stat");
+
+        return getObject(key).toStoredObject(key);
+    }
+
+    @Override
+    public InputStream get(String key) throws Exception {
+        simulate("get");
+
+        return new ByteArrayInputStream(getObject(key).data());
+    }
+
+    @Override
+    public InputStream get(String key, long offset, long length) throws Exception {
+        simulate("get");
+
+        byte[] data = getObject(key).data();
+        int start = (int) Math.min(offset, data.length);
+        int end = (int) Math.min(offset + length, data.length);
+
+        return new ByteArrayInputStream(data, start, end - start);
+    }
+
+    @Override
+    public String put(String key, InputStream inputStream, Long size) throws Exception {
+        simulate("put");
+
+        MemoryObject object = newObject(inputStream.readAllBytes());
+        objects.put(key, object);
+
+        return object.etag();
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey, long size) throws Exception {
+        simulate("copy");
+
+        objects.put(targetKey, newObject(getObject(sourceKey).data()));
+    }
+
+    @Override
+    public boolean supportsAtomicMove() {
+        return true;
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey, long size) throws Exception {
+        simulate("move");
+
+        MemoryObject object = objects.remove(sourceKey);
+        if (object == null) {
+            throw new ResourceIsNotFoundException("The resource was not found");
+        }
+        objects.put(targetKey, object);
+    }
+
+    @Override
+    public void delete(String key) throws Exception {
+        simulate("delete");
+
+        objects.remove(key);
+    }
+
+    @Override
+    public void deleteAll(List<String> keys) throws Exception {
+        simulate("deleteAll");
+
+        keys.forEach(objects::remove);
+    }
+
+    @Override
+    public String createMultipartUpload(String key) throws Exception {
+        simulate("createMultipartUpload");
+
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new ConcurrentSkipListMap<>());
+
+        return uploadId;
+    }
+
+    @Override
+    public String uploadPart(String key, String uploadId, int partNumber, InputStream inputStream, long size)
+            throws Exception {
+        simulate("uploadPart");
+
+        MemoryObject part = newObject(inputStream.readNBytes((int) size));
+        getUpload(uploadId).put(partNumber, part);
+
+        return part.etag();
+    }
+
+    @Override
+    public List<StoredPart> listParts(String key, String uploadId) throws Exception {
+        simulate("listParts");
+
+        return getUpload(uploadId).entrySet()
+                .stream()
+                .map(entry -> new StoredPart(entry.getKey(), entry.getValue().etag(), entry.getValue().data().length))
+                .toList();
+    }
+
+    @Override
+    public String completeMultipartUpload(String key, String uploadId, List<StoredPart> parts) throws Exception {
+        simulate("completeMultipartUpload");
+
+        NavigableMap<Integer, MemoryObject> upload = getUpload(uploadId);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for (StoredPart part : parts) {
+            MemoryObject uploadedPart = upload.get(part.partNumber());
+            if (uploadedPart == null || !uploadedPart.etag().equals(part.etag())) {
+                throw new InvalidRequestBodyException("Some chunks are missing");
+            }
+            outputStream.write(uploadedPart.data());
+        }
+
+        MemoryObject object = newObject(outputStream.toByteArray());
+        objects.put(key, object);
+        uploads.remove(uploadId);
+
+        return object.etag();
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) throws Exception {
+        simulate("abortMultipartUpload");
+
+        uploads.remove(uploadId);
+    }
+
+    private void simulate(String operation) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latency = settings.getLatency().toNanos();
+        long jitter = settings.getLatencyJitter().toNanos();
+
+        if (jitter > 0) {
+            latency += random.nextLong(jitter + 1);
+        }
+        if (latency > 0) {
+            Thread.sleep(latency / 1_000_000, (int) (latency % 1_000_000));
+        }
+        if (settings.getFailureRate() > 0 && random.nextDouble() < settings.getFailureRate()) {
+            throw new IOException("Injected storage failure in " + operation);
+        }
+    }
+
+    private MemoryObject getObject(String key) {
+        MemoryObject object = objects.get(key);
+        if (object == null) {
+            throw new ResourceIsNotFoundException("The resource was not found");
+        }
+        return object;
+    }
+
+    private NavigableMap<Integer, MemoryObject> getUpload(String uploadId) {
+        NavigableMap<Integer, MemoryObject> upload = uploads.get(uploadId);
+        if (upload == null) {
+            throw new ResourceIsNotFoundException("The upload session was not found");
+        }
+        return upload;
+    }
+
+    private MemoryObject newObject(byte[] data) {
+        return new MemoryObject(data, Long.toHexString(versions.incrementAndGet()), Instant.now());
+    }
+
+    private record MemoryObject(byte[] data, String etag, Instant lastModified) {
+
+        StoredObject toStoredObject(String key) {
+            return new StoredObject(key, data.length, etag, lastModified);
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package com.mysite.cloudfilestorage.service.storage;
+
+import com.google.common.io.ByteStreams;
+import com.mysite.cloudfilestorage.config.storage.StorageProperties;
+import com.mysite.cloudfilestorage.dto.StoredObject;
+import com.mysite.cloudfilestorage.dto.StoredPart;
+import com.mysite.cloudfilestorage.exception.minio.InvalidPathException;
+import com.mysite.cloudfilestorage.exception.minio.ResourceIsNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(prefix = "storage", name = "backend", havingValue = "local")
+public class LocalObjectStore implements ObjectStore {
+
+    private static final String DIRECTORY_MARKER = ".cfs-directory";
+    private static final String TEMP_DIRECTORY = ".cfs-tmp";
+    private static final String UPLOADS_DIRECTORY = ".cfs-uploads";
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private final Path root;
+    private final Path tempDirectory;
+    private final Path uploadsDirectory;
+
+    public LocalObjectStore(StorageProperties storageProperties) throws IOException {
+        this.root = Path.of(storageProperties.getLocal().getRoot()).toAbsolutePath().normalize();
+        this.tempDirectory = root.resolve(TEMP_DIRECTORY);
+        this.uploadsDirectory = root.resolve(UPLOADS_DIRECTORY);
+
+        Files.createDirectories(tempDirectory);
+        Files.createDirectories(uploadsDirectory);
+    }
+
+    @Override
+    public List<StoredObject> list(String prefix) throws Exception {
+        Path directory = resolve(prefix.substring(0, prefix.lastIndexOf('/') + 1));
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        List<StoredObject> objects = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (Files.isDirectory(path) || isInternal(path)) {
+                    continue;
+                }
+
+                String key = toKey(path);
+                if (key.startsWith(prefix)) {
+                    objects.add(toStoredObject(key, path));
+                }
+            }
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+
+        objects.sort(Comparator.comparing(StoredObject::key));
+        return objects;
+    }
+
+    @Override
+    public StoredObject stat(String key) throws Exception {
+        try {
+            return toStoredObject(key, objectPath(key));
+        } catch (NoSuchFileException exception) {
+            throw new ResourceIsNotFoundException("The resource was not found");
+        }
+    }
+
+    @Override
+    public InputStream get(String key) throws Exception {
+        try {
+            return Files.newInputStream(objectPath(key));
+        } catch (NoSuchFileException exception) {
+            throw new ResourceIsNotFoundException("The resource was not found");
+        }
+    }
+
+    @Override
+    public InputStream get(String key, long offset, long length) throws Exception {
+        FileChannel channel = openChannel(key);
+
+        try {
+            channel.position(offset);
+        } catch (IOException | RuntimeException exception) {
+            channel.close();
+            throw exception;
+        }
+
+        return ByteStreams.limit(Channels.newInputStream(channel), length);
+    }
+
+    @Override
+    public long transferTo(String key, long offset, long length, OutputStream outputStream) throws Exception {
+        try (FileChannel channel = openChannel(key)) {
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long end = Math.min(offset + length, channel.size());
+            long position = offset;
+
+            while (position < end) {
+                position += channel.transferTo(position, end - position, target);
+            }
+
+            return position - offset;
+        }
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        Path path = objectPath(key);
+
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    @Override
+    public String put(String key, InputStream inputStream, Long size) throws Exception {
+        Path temp = Files.createTempFile(tempDirectory, "put-", null);
+
+        try {
+            Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+            return publish(temp, objectPath(key));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey, long size) throws Exception {
+        Path temp = Files.createTempFile(tempDirectory, "copy-", null);
+
+        try {
+            try (FileChannel source = openChannel(sourceKey);
+                 FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long position = 0;
+                while (position < source.size()) {
+                    position += source.transferTo(position, source.size() - position, target);
+                }
+            }
+            publish(temp, objectPath(targetKey));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public boolean supportsAtomicMove() {
+        return true;
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey, long size) throws Exception {
+        Path source = objectPath(sourceKey);
+        if (!Files.exists(source)) {
+            throw new ResourceIsNotFoundException("The resource was not found");
+        }
+
+        publish(source, objectPath(targetKey));
+        prune(source.getParent());
+    }
+
+    @Override
+    public void delete(String key) throws Exception {
+        Path path = objectPath(key);
+
+        Files.deleteIfExists(path);
+        prune(path.getParent());
+    }
+
+    @Override
+    public void deleteAll(List<String> keys) throws Exception {
+        for (String key : keys) {
+            delete(key);
+        }
+    }
+
+    @Override
+    public String createMultipartUpload(String key) throws Exception {
+        String uploadId = UUID.randomUUID().toString();
+        Files.createDirectories(uploadsDirectory.resolve(uploadId));
+
+        return uploadId;
+    }
+
+    @Override
+    public String uploadPart(String key, String uploadId, int partNumber, InputStream inputStream, long size)
+            throws Exception {
+        Path upload = uploadPath(uploadId);
+        Path temp = Files.createTempFile(tempDirectory, "part-", null);
+
+        try {
+            Files.copy(ByteStreams.limit(inputStream, size), temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, upload.resolve(String.valueOf(partNumber)),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            return etag(Files.readAttributes(upload.resolve(String.valueOf(partNumber)), BasicFileAttributes.class));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public List<StoredPart> listParts(String key, String uploadId) throws Exception {
+        List<StoredPart> parts = new ArrayList<>();
+
+        try (Stream<Path> paths = Files.list(uploadPath(uploadId))) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                parts.add(new StoredPart(Integer.parseInt(path.getFileName().toString()), etag(attributes),
+                        attributes.size()));
+            }
+        }
+
+        parts.sort(Comparator.comparingInt(StoredPart::partNumber));
+        return parts;
+    }
+
+    @Override
+    public String completeMultipartUpload(String key, String uploadId, List<StoredPart> parts) throws Exception {
+        Path upload = uploadPath(uploadId);
+        Path temp = Files.createTempFile(tempDirectory, "complete-", null);
+
+        try {
+            try (FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                for (StoredPart part : parts) {
+                    try (FileChannel source = FileChannel.open(upload.resolve(String.valueOf(part.partNumber())))) {
+                        long position = 0;
+                        while (position < source.size()) {
+                            position += source.transferTo(position, source.size() - position, target);
+                        }
+                    }
+                }
+            }
+
+            String etag = publish(temp, objectPath(key));
+            deleteUpload(upload);
+
+            return etag;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) throws Exception {
+        deleteUpload(uploadPath(uploadId));
+    }
+
+    private String publish(Path source, Path target) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Files.createDirectories(target.getParent());
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+                return etag(Files.readAttributes(target, BasicFileAttributes.class));
+            } catch (NoSuchFileException exception) {
+                if (attempt == MAX_WRITE_ATTEMPTS || !Files.exists(source)) {
+                    throw exception;
+                }
+            }
+        }
+    }
+
+    private void prune(Path directory) throws IOException {
+        while (!directory.equals(root) && !Files.exists(directory.resolve(DIRECTORY_MARKER))) {
+            try {
+                Files.delete(directory);
+            } catch (DirectoryNotEmptyException | NoSuchFileException exception) {
+                return;
+            }
+            directory = directory.getParent();
+        }
+    }
+
+    private void deleteUpload(Path upload) throws IOException {
+        try (Stream<Path> paths = Files.list(upload)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+        Files.deleteIfExists(upload);
+    }
+
+    private FileChannel openChannel(String key) throws IOException {
+        try {
+            return FileChannel.open(objectPath(key), StandardOpenOption.READ);
+        } catch (NoSuchFileException exception) {
+            throw new ResourceIsNotFoundException("The resource was not found");
+        }
+    }
+
+    private StoredObject toStoredObject(String key, Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+
+        return new StoredObject(key, attributes.size(), etag(attributes), attributes.lastModifiedTime().toInstant());
+    }
+
+    private String etag(BasicFileAttributes attributes) {
+        return Long.toHexString(attributes.size()) + "-"
+                + Long.toHexString(attributes.lastModifiedTime().to(TimeUnit.MICROSECONDS));
+    }
+
+    private Path objectPath(String key) {
+        Path path = resolve(key);
+
+        return key.endsWith("/") ? path.resolve(DIRECTORY_MARKER) : path;
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+
+        if (!path.startsWith(root) || isInternal(path) || isDirectoryMarker(path)) {
+            throw new InvalidPathException("Invalid or missing path");
+        }
+        return path;
+    }
+
+    private Path uploadPath(String uploadId) {
+        Path upload = uploadsDirectory.resolve(uploadId).normalize();
+
+        if (!upload.getParent().equals(uploadsDirectory) || !Files.isDirectory(upload)) {
+            throw new ResourceIsNotFoundException("The upload session was not found");
+        }
+        return upload;
+    }
+
+    private boolean isInternal(Path path) {
+        return path.startsWith(tempDirectory) || path.startsWith(uploadsDirectory);
+    }
+
+    private boolean isDirectoryMarker(Path path) {
+        for (Path name : root.relativize(path)) {
+            if (name.toString().equals(DIRECTORY_MARKER)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String toKey(Path path) {
+        String key = root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+
+        return key.endsWith("/" + DIRECTORY_MARKER) || key.equals(DIRECTORY_MARKER)
+                ? key.substring(0, key.length() - DIRECTORY_MARKER.length())
+                : key;
+    }
+}
@@ -0,0 +1,239 @@
+package com.mysite.cloudfilestorage.service.storage;
+
+import com.google.common.io.CountingInputStream;
+import com.mysite.cloudfilestorage.dto.StoredObject;
+import com.mysite.cloudfilestorage.dto.StoredPart;
+import com.mysite.cloudfilestorage.exception.minio.ResourceIsNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class MeteredObjectStore implements ObjectStore {
+
+    private final ObjectStore delegate;
+    private final MeterRegistry meterRegistry;
+    private final String backend;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Counter bytesRead;
+    private final Counter bytesWritten;
+    private final DistributionSummary objectSize;
+
+    public MeteredObjectStore(ObjectStore delegate, MeterRegistry meterRegistry, String backend) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.backend = backend;
+        this.bytesRead = bytesCounter("read");
+        this.bytesWritten = bytesCounter("write");
+        this.objectSize = DistributionSummary.builder("storage.object.size")
+                .description("Size of objects written to the object store")
+                .baseUnit("bytes")
+                .tag("backend", backend)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1024.0)
+                .maximumExpectedValue(64.0 * 1024 * 1024 * 1024)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<StoredObject> list(String prefix) throws Exception {
+        return record("list", () -> delegate.list(prefix));
+    }
+
+    @Override
+    public StoredObject stat(String key) throws Exception {
+        return record("stat", () -> delegate.stat(key));
+    }
+
+    @Override
+    public InputStream get(String key) throws Exception {
+        return new MeteredInputStream(record("get", () -> delegate.get(key)));
+    }
+
+    @Override
+    public InputStream get(String key, long offset, long length) throws Exception {
+        return new MeteredInputStream(record("get", () -> delegate.get(key, offset, length)));
+    }
+
+    @Override
+    public long transferTo(String key, long offset, long length, OutputStream outputStream) throws Exception {
+        long transferred = record("get", () -> delegate.transferTo(key, offset, length, outputStream));
+        bytesRead.increment(transferred);
+
+        return transferred;
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return delegate.localPath(key);
+    }
+
+    @Override
+    public String put(String key, InputStream inputStream, Long size) throws Exception {
+        CountingInputStream countingInputStream = new CountingInputStream(inputStream);
+        String etag = record("put", () -> delegate.put(key, countingInputStream, size));
+
+        bytesWritten.increment(countingInputStream.getCount());
+        objectSize.record(countingInputStream.getCount());
+
+        return etag;
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey, long size) throws Exception {
+        record("copy", () -> {
+            delegate.copy(sourceKey, targetKey, size);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean supportsAtomicMove() {
+        return delegate.supportsAtomicMove();
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey, long size) throws Exception {
+        record("move", () -> {
+            delegate.move(sourceKey, targetKey, size);
+            return null;
+        });
+    }
+
+    @Override
+    public void delete(String key) throws Exception {
+        record("delete", () -> {
+            delegate.delete(key);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteAll(List<String> keys) throws Exception {
+        record("deleteAll", () -> {
+            delegate.deleteAll(keys);
+            return null;
+        });
+    }
+
+    @Override
+    public String createMultipartUpload(String key) throws Exception {
+        return record("createMultipartUpload", () -> delegate.createMultipartUpload(key));
+    }
+
+    @Override
+    public String uploadPart(String key, String uploadId, int partNumber, InputStream inputStream, long size)
+            throws Exception {
+        String etag = record("uploadPart", () -> delegate.uploadPart(key, uploadId, partNumber, inputStream, size));
+        bytesWritten.increment(size);
+
+        return etag;
+    }
+
+    @Override
+    public List<StoredPart> listParts(String key, String uploadId) throws Exception {
+        return record("listParts", () -> delegate.listParts(key, uploadId));
+    }
+
+    @Override
+    public String completeMultipartUpload(String key, String uploadId, List<StoredPart> parts) throws Exception {
+        String etag = record("completeMultipartUpload", () -> delegate.completeMultipartUpload(key, uploadId, parts));
+        objectSize.record(parts.stream()
+                .mapToLong(StoredPart::size)
+                .sum());
+
+        return etag;
+    }
+
+    @Override
+    public void abortMultipartUpload(String key, String uploadId) throws Exception {
+        record("abortMultipartUpload", () -> {
+            delegate.abortMultipartUpload(key, uploadId);
+            return null;
+        });
+    }
+
+    private <T> T record(String operation, StorageCall<T> call) throws Exception {
+        long start = System.nanoTime();
+        String outcome = "success";
+
+        try {
+            return call.call();
+        } catch (ResourceIsNotFoundException exception) {
+            outcome = "not_found";
+            throw exception;
+        } catch (Exception exception) {
+            outcome = "error";
+            throw exception;
+        } finally {
+            timer(operation, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return timers.computeIfAbsent(operation + ":" + outcome, key -> Timer.builder("storage.operations")
+                .description("Object store calls")
+                .tag("backend", backend)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(5))
+                .register(meterRegistry));
+    }
+
+    private Counter bytesCounter(String direction) {
+        return Counter.builder("storage.bytes")
+                .description("Bytes transferred to and from the object store")
+                .baseUnit("bytes")
+                .tag("backend", backend)
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface StorageCall<T> {
+        T call() throws Exception;
+    }
+
+    private class MeteredInputStream extends FilterInputStream {
+
+        MeteredInputStream(InputStream inputStream) {
+            super(inputStream);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1) {
+                bytesRead.increment();
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = in.read(buffer, offset, length);
+            if (count > 0) {
+                bytesRead.increment(count);
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            return in.skip(count);
+        }
+    }
+}
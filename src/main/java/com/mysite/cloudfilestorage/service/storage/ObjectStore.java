@@ -0,0 +1,58 @@
+package com.mysite.cloudfilestorage.service.storage;
+
+import com.mysite.cloudfilestorage.dto.StoredObject;
+import com.mysite.cloudfilestorage.dto.StoredPart;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+public interface ObjectStore {
+
+    List<StoredObject> list(String prefix) throws Exception;
+
+    StoredObject stat(String key) throws Exception;
+
+    InputStream get(String key) throws Exception;
+
+    InputStream get(String key, long offset, long length) throws Exception;
+
+    String put(String key, InputStream inputStream, Long size) throws Exception;
+
+    void copy(String sourceKey, String targetKey, long size) throws Exception;
+
+    void delete(String key) throws Exception;
+
+    void deleteAll(List<String> keys) throws Exception;
+
+    String createMultipartUpload(String key) throws Exception;
+
+    String uploadPart(String key, String uploadId, int partNumber, InputStream inputStream, long size)
+            throws Exception;
+
+    List<StoredPart> listParts(String key, String uploadId) throws Exception;
+
+    String completeMultipartUpload(String key, String uploadId, List<StoredPart> parts) throws Exception;
+
+    void abortMultipartUpload(String key, String uploadId) throws Exception;
+
+    default boolean supportsAtomicMove() {
+        return false;
+    }
+
+    default void move(String sourceKey, String targetKey, long size) throws Exception {
+        copy(sourceKey, targetKey, size);
+        delete(sourceKey);
+    }
+
+    default long transferTo(String key, long offset, long length, OutputStream outputStream) throws Exception {
+        try (InputStream inputStream = get(key, offset, length)) {
+            return inputStream.transferTo(outputStream);
+        }
+    }
+
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+}
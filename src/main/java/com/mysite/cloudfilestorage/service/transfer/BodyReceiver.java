@@ -0,0 +1,89 @@
+package com.mysite.cloudfilestorage.service.transfer;
+
+import com.mysite.cloudfilestorage.exception.minio.InvalidRequestBodyException;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.context.request.async.DeferredResult;
+
+class BodyReceiver implements ReadListener {
+
+    private final byte[] body;
+    private final TransferGateway.BodyConsumer bodyConsumer;
+    private final DeferredResult<ResponseEntity<Void>> result;
+    private final Executor executor;
+    private final SecurityContext securityContext;
+    private final Semaphore memory;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private ServletInputStream inputStream;
+    private int position;
+
+    BodyReceiver(int size, TransferGateway.BodyConsumer bodyConsumer, DeferredResult<ResponseEntity<Void>> result,
+                 Executor executor, SecurityContext securityContext, Semaphore memory) {
+        this.body = new byte[size];
+        this.bodyConsumer = bodyConsumer;
+        this.result = result;
+        this.executor = executor;
+        this.securityContext = securityContext;
+        this.memory = memory;
+    }
+
+    void start(ServletInputStream inputStream) {
+        this.inputStream = inputStream;
+        inputStream.setReadListener(this);
+    }
+
+    @Override
+    public void onDataAvailable() throws IOException {
+        while (position < body.length && inputStream.isReady()) {
+            int read = inputStream.read(body, position, body.length - position);
+            if (read < 0) {
+                return;
+            }
+            position += read;
+        }
+    }
+
+    @Override
+    public void onAllDataRead() {
+        if (position != body.length) {
+            fail(new InvalidRequestBodyException("Invalid request body"));
+            return;
+        }
+
+        executor.execute(new DelegatingSecurityContextRunnable(() -> {
+            try {
+                bodyConsumer.accept(new ByteArrayInputStream(body));
+                result.setResult(ResponseEntity.noContent().build());
+            } catch (Exception exception) {
+                result.setErrorResult(exception);
+            } finally {
+                release();
+            }
+        }, securityContext));
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        fail(throwable);
+    }
+
+    void release() {
+        if (released.compareAndSet(false, true)) {
+            memory.release(body.length);
+        }
+    }
+
+    private void fail(Throwable throwable) {
+        release();
+        result.setErrorResult(throwable);
+    }
+}
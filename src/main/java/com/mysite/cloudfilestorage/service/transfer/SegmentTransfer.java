@@ -0,0 +1,262 @@
+package com.mysite.cloudfilestorage.service.transfer;
+
+import com.mysite.cloudfilestorage.dto.TransferSegment;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+class SegmentTransfer implements WriteListener, AsyncListener {
+
+    private static final int WRITE_SIZE = 16 * 1024;
+
+    private final AsyncContext asyncContext;
+    private final Iterator<TransferSegment> segments;
+    private final ObjectOpener objectOpener;
+    private final Executor executor;
+    private final Executor retryExecutor;
+    private final Semaphore memory;
+    private final int windowSize;
+    private final LongConsumer bytesWritten;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private ServletOutputStream outputStream;
+    private TransferSegment segment;
+    private InputStream segmentStream;
+    private long segmentPosition;
+    private byte[] buffer;
+    private int bufferPosition;
+    private int reservedMemory;
+    private boolean fetching;
+    private boolean finished;
+
+    SegmentTransfer(AsyncContext asyncContext, List<TransferSegment> segments, ObjectOpener objectOpener,
+                    Executor executor, Executor retryExecutor, Semaphore memory, int windowSize,
+                    LongConsumer bytesWritten) {
+        this.asyncContext = asyncContext;
+        this.segments = segments.iterator();
+        this.objectOpener = objectOpener;
+        this.executor = executor;
+        this.retryExecutor = retryExecutor;
+        this.memory = memory;
+        this.windowSize = windowSize;
+        this.bytesWritten = bytesWritten;
+    }
+
+    void start() throws IOException {
+        outputStream = asyncContext.getResponse().getOutputStream();
+        outputStream.setWriteListener(this);
+    }
+
+    @Override
+    public void onWritePossible() throws IOException {
+        lock.lock();
+        try {
+            writeAvailable();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        finish();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        finish();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        finish();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        finish();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+
+    private void writeAvailable() throws IOException {
+        while (!finished && outputStream.isReady()) {
+            if (buffer != null && bufferPosition < buffer.length) {
+                int length = Math.min(WRITE_SIZE, buffer.length - bufferPosition);
+                outputStream.write(buffer, bufferPosition, length);
+                bufferPosition += length;
+                bytesWritten.accept(length);
+                continue;
+            }
+
+            releaseBuffer();
+
+            if (fetching) {
+                return;
+            }
+
+            if (segment == null || segmentPosition == segment.length()) {
+                closeSegmentStream();
+
+                if (!segments.hasNext()) {
+                    finished = true;
+                    asyncContext.complete();
+                    return;
+                }
+
+                segment = segments.next();
+                segmentPosition = 0;
+
+                if (!segment.isObject()) {
+                    buffer = segment.bytes();
+                    segmentPosition = segment.length();
+                }
+                continue;
+            }
+
+            fetchNextWindow();
+        }
+    }
+
+    private void fetchNextWindow() {
+        TransferSegment fetchedSegment = segment;
+        int length = (int) Math.min(windowSize, segment.length() - segmentPosition);
+        fetching = true;
+
+        if (!memory.tryAcquire(length)) {
+            retryExecutor.execute(this::retryFetch);
+            return;
+        }
+
+        executor.execute(() -> {
+            byte[] window = null;
+            Exception failure = null;
+
+            try {
+                window = readWindow(fetchedSegment, length);
+            } catch (Exception exception) {
+                failure = exception;
+            }
+
+            onFetched(window, length, failure);
+        });
+    }
+
+    private byte[] readWindow(TransferSegment fetchedSegment, int length) throws Exception {
+        if (segmentStream == null) {
+            segmentStream = objectOpener.open(fetchedSegment.key(), fetchedSegment.offset(), fetchedSegment.length());
+        }
+
+        return segmentStream.readNBytes(length);
+    }
+
+    private void retryFetch() {
+        lock.lock();
+        try {
+            fetching = false;
+
+            if (finished) {
+                closeSegmentStream();
+                return;
+            }
+
+            writeAvailable();
+        } catch (IOException exception) {
+            fail();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onFetched(byte[] window, int length, Exception failure) {
+        lock.lock();
+        try {
+            fetching = false;
+
+            if (finished || failure != null || window.length != length) {
+                memory.release(length);
+                if (finished) {
+                    closeSegmentStream();
+                } else {
+                    fail();
+                }
+                return;
+            }
+
+            buffer = window;
+            bufferPosition = 0;
+            reservedMemory = length;
+            segmentPosition += length;
+
+            writeAvailable();
+        } catch (IOException exception) {
+            fail();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void fail() {
+        HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+
+        if (!response.isCommitted()) {
+            response.reset();
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+
+        finish();
+        asyncContext.complete();
+    }
+
+    private void finish() {
+        lock.lock();
+        try {
+            finished = true;
+            releaseBuffer();
+            if (!fetching) {
+                closeSegmentStream();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseBuffer() {
+        if (reservedMemory > 0) {
+            memory.release(reservedMemory);
+            reservedMemory = 0;
+        }
+        buffer = null;
+        bufferPosition = 0;
+    }
+
+    private void closeSegmentStream() {
+        if (segmentStream == null) {
+            return;
+        }
+
+        try {
+            segmentStream.close();
+        } catch (IOException ignored) {
+        }
+        segmentStream = null;
+    }
+
+    @FunctionalInterface
+    interface ObjectOpener {
+        InputStream open(String key, long offset, long length) throws Exception;
+    }
+}
@@ -0,0 +1,136 @@
+package com.mysite.cloudfilestorage.service.transfer;
+
+import com.mysite.cloudfilestorage.config.minio.MinioProperties;
+import com.mysite.cloudfilestorage.dto.TransferSegment;
+import com.mysite.cloudfilestorage.service.ResourceMetrics;
+import com.mysite.cloudfilestorage.service.storage.ObjectStore;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+@Component
+public class TransferGateway {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final long MEMORY_RETRY_DELAY_MILLIS = 20;
+
+    private final ExecutorService transferExecutor;
+    private final Executor memoryRetryExecutor;
+    private final ObjectStore objectStore;
+    private final ResourceMetrics metrics;
+    private final MinioProperties.Transfer settings;
+    private final Semaphore memory;
+    private final int memoryLimit;
+    private final int windowSize;
+
+    public TransferGateway(ExecutorService transferExecutor, ObjectStore objectStore, ResourceMetrics metrics,
+                           MinioProperties minioProperties) {
+        this.transferExecutor = transferExecutor;
+        this.memoryRetryExecutor = CompletableFuture.delayedExecutor(
+                MEMORY_RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS, transferExecutor);
+        this.objectStore = objectStore;
+        this.metrics = metrics;
+        this.settings = minioProperties.getTransfer();
+        this.memoryLimit = (int) Math.min(Integer.MAX_VALUE, settings.getMemoryLimit().toBytes());
+        this.windowSize = (int) Math.min(memoryLimit, settings.getWindowSize().toBytes());
+        this.memory = new Semaphore(memoryLimit);
+    }
+
+    public boolean supports(HttpServletRequest request) {
+        return settings.isNonBlocking() && request.isAsyncSupported();
+    }
+
+    public boolean supports(HttpServletRequest request, List<TransferSegment> segments) {
+        return supports(request) || getSendfilePath(request, segments).isPresent();
+    }
+
+    public void send(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                     HttpHeaders headers, List<TransferSegment> segments) throws IOException {
+        response.setStatus(status.value());
+        headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+
+        Optional<Path> sendfilePath = getSendfilePath(request, segments);
+        if (sendfilePath.isPresent()) {
+            TransferSegment segment = segments.getFirst();
+            request.setAttribute(SENDFILE_FILENAME, sendfilePath.get().toString());
+            request.setAttribute(SENDFILE_START, segment.offset());
+            request.setAttribute(SENDFILE_END, segment.offset() + segment.length());
+            metrics.countDownloaded(segment.length());
+            return;
+        }
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(settings.getTimeout().toMillis());
+
+        SegmentTransfer transfer = new SegmentTransfer(asyncContext, segments, objectStore::get, transferExecutor,
+                memoryRetryExecutor, memory, windowSize, metrics::countDownloaded);
+        asyncContext.addListener(transfer);
+        transfer.start();
+    }
+
+    public DeferredResult<ResponseEntity<Void>> receive(HttpServletRequest request, long size,
+                                                         BodyConsumer bodyConsumer) throws Exception {
+        DeferredResult<ResponseEntity<Void>> result = new DeferredResult<>(settings.getTimeout().toMillis());
+
+        if (!supports(request) || size <= 0 || size > memoryLimit || !memory.tryAcquire((int) size)) {
+            bodyConsumer.accept(request.getInputStream());
+            result.setResult(ResponseEntity.noContent().build());
+            return result;
+        }
+
+        BodyReceiver receiver = new BodyReceiver((int) size, bodyConsumer, result, transferExecutor,
+                SecurityContextHolder.getContext(), memory);
+
+        WebAsyncUtils.getAsyncManager(request).registerDeferredResultInterceptor(receiver,
+                new DeferredResultProcessingInterceptor() {
+                    @Override
+                    public <T> void preProcess(NativeWebRequest webRequest, DeferredResult<T> deferredResult)
+                            throws Exception {
+                        receiver.start(webRequest.getNativeRequest(HttpServletRequest.class).getInputStream());
+                    }
+
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, DeferredResult<T> deferredResult) {
+                        receiver.release();
+                    }
+                });
+
+        return result;
+    }
+
+    private Optional<Path> getSendfilePath(HttpServletRequest request, List<TransferSegment> segments) {
+        if (segments.size() != 1 || !segments.getFirst().isObject()
+                || !Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            return Optional.empty();
+        }
+
+        return objectStore.localPath(segments.getFirst().key());
+    }
+
+    @FunctionalInterface
+    public interface BodyConsumer {
+        void accept(InputStream inputStream) throws Exception;
+    }
+}
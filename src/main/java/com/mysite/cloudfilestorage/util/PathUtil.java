@@ -150,4 +150,27 @@ public class PathUtil {
     public static boolean isPathEmpty(String path) {
         return path.isEmpty();
     }
+
+    public static List<String> getAncestorKeys(String key) {
+        List<String> ancestorKeys = new ArrayList<>();
+        int end = isDirectory(key) ? key.length() - 1 : key.length();
+
+        for (int i = 0; i < end; i++) {
+            if (key.charAt(i) == '/') {
+                ancestorKeys.add(key.substring(0, i + 1));
+            }
+        }
+
+        return ancestorKeys;
+    }
+
+    public static String getParentKey(String key) {
+        int end = isDirectory(key) ? key.length() - 1 : key.length();
+        return key.substring(0, key.lastIndexOf('/', end - 1) + 1);
+    }
+
+    public static String getKeyName(String key) {
+        int end = isDirectory(key) ? key.length() - 1 : key.length();
+        return key.substring(key.lastIndexOf('/', end - 1) + 1, end);
+    }
 }
@@ -29,6 +29,18 @@ public class MultipartValidator {
         }
     }
 
+    public void validateUploadedFileName(String fileName) {
+        if (pathValidator.isInvalidFileName(fileName)) {
+            throw new InvalidRequestBodyException("Invalid request body");
+        }
+    }
+
+    public void validateUploadedFileSize(long size) {
+        if (size == 0) {
+            throw new InvalidRequestBodyException("Invalid request body");
+        }
+    }
+
     public InputStream validateInputStream(MultipartFile file) {
         try {
             return file.getInputStream();
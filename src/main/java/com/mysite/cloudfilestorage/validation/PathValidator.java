@@ -1,13 +1,15 @@
 package com.mysite.cloudfilestorage.validation;
 
+import com.mysite.cloudfilestorage.dto.StoredObject;
 import com.mysite.cloudfilestorage.exception.minio.DirectoryAlreadyExistsException;
 import com.mysite.cloudfilestorage.exception.minio.InvalidPathException;
 import com.mysite.cloudfilestorage.exception.minio.ParentDirectoryIsNotFoundException;
 import com.mysite.cloudfilestorage.exception.minio.ResourceAlreadyExistsException;
 import com.mysite.cloudfilestorage.exception.minio.ResourceIsNotFoundException;
 import com.mysite.cloudfilestorage.util.PathUtil;
-import io.minio.messages.Item;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 
@@ -40,7 +42,9 @@ public class PathValidator {
     }
 
     public void validateNewObjectsNamesForCreating(List<String> objectsNames, List<String> newObjectsNames) {
-        if (objectsNames.stream().anyMatch(newObjectsNames::contains)) {
+        Set<String> newObjectsNamesSet = new HashSet<>(newObjectsNames);
+
+        if (objectsNames.stream().anyMatch(newObjectsNamesSet::contains)) {
             throw new ResourceAlreadyExistsException("The resource on the way to already exists");
         }
     }
@@ -51,20 +55,38 @@ public class PathValidator {
         }
     }
 
-    public void validateDirectoryIsEmpty(List<Item> items) {
-        if (items.isEmpty()) {
+    public void validateIsFile(String path) {
+        if (PathUtil.isDirectory(path)) {
+            throw new InvalidPathException("Invalid or missing path");
+        }
+    }
+
+    public void validateDirectoryIsEmpty(List<StoredObject> objects) {
+        if (objects.isEmpty()) {
             throw new ResourceIsNotFoundException("The resource was not found");
         }
     }
 
-    public void validateDirectoryIsNotEmpty(List<Item> items) {
-        if (!items.isEmpty()) {
+    public void validateResourceExists(boolean exists) {
+        if (!exists) {
+            throw new ResourceIsNotFoundException("The resource was not found");
+        }
+    }
+
+    public void validateResourceIsNotExists(boolean exists) {
+        if (exists) {
+            throw new ResourceAlreadyExistsException("The resource on the way to already exists");
+        }
+    }
+
+    public void validateDirectoryIsNotExists(boolean exists) {
+        if (exists) {
             throw new DirectoryAlreadyExistsException("The directory already exists");
         }
     }
 
-    public void validateParentDirectoryIsEmpty(List<Item> items) {
-        if (items.isEmpty()) {
+    public void validateParentDirectoryExists(boolean exists) {
+        if (!exists) {
             throw new ParentDirectoryIsNotFoundException("The parent directory does not exist");
         }
     }
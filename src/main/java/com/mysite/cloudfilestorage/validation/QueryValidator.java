@@ -7,9 +7,25 @@ import org.springframework.stereotype.Component;
 @Component
 public class QueryValidator {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     public void validateQuery(String query) {
         if (StringUtils.isBlank(query)) {
             throw new InvalidQueryException("Invalid or missing query");
         }
     }
+
+    public void validatePage(int limit, int offset) {
+        validateLimit(limit);
+
+        if (offset < 0) {
+            throw new InvalidQueryException("Invalid limit or offset");
+        }
+    }
+
+    public void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidQueryException("Invalid limit or offset");
+        }
+    }
 }
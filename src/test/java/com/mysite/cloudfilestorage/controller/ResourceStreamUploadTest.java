@@ -0,0 +1,127 @@
+package com.mysite.cloudfilestorage.controller;
+
+import com.mysite.cloudfilestorage.config.minio.MinioProperties;
+import com.mysite.cloudfilestorage.config.storage.StorageProperties;
+import com.mysite.cloudfilestorage.exception.GlobalExceptionHandler;
+import com.mysite.cloudfilestorage.mapper.ResourceResponseMapperImpl;
+import com.mysite.cloudfilestorage.service.ResourceService;
+import com.mysite.cloudfilestorage.service.minio.MinioKeyBuilder;
+import com.mysite.cloudfilestorage.service.resource.common.BoundedParallelExecutor;
+import com.mysite.cloudfilestorage.service.resource.common.ResourceConflictService;
+import com.mysite.cloudfilestorage.service.resource.common.ResourceKeyService;
+import com.mysite.cloudfilestorage.service.resource.index.ResourceIndexService;
+import com.mysite.cloudfilestorage.service.resource.upload.ResourceUploadService;
+import com.mysite.cloudfilestorage.service.storage.InMemoryObjectStore;
+import com.mysite.cloudfilestorage.service.transfer.TransferGateway;
+import com.mysite.cloudfilestorage.validation.MultipartValidator;
+import com.mysite.cloudfilestorage.validation.PathValidator;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+
+class ResourceStreamUploadTest {
+
+    private static final String BOUNDARY = "cfs-boundary";
+
+    private InMemoryObjectStore objectStore;
+    private ResourceIndexService indexService;
+    private MinioProperties minioProperties;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setup() throws Exception {
+        MinioKeyBuilder minioKeyBuilder = new MinioKeyBuilder();
+        PathValidator pathValidator = new PathValidator();
+        ResourceKeyService keyService = Mockito.mock(ResourceKeyService.class);
+        ResourceService resourceService = Mockito.mock(ResourceService.class);
+        objectStore = new InMemoryObjectStore(new StorageProperties());
+        indexService = Mockito.mock(ResourceIndexService.class);
+        minioProperties = new MinioProperties();
+
+        Mockito.when(keyService.getUserId()).thenReturn(1L);
+        Mockito.when(keyService.getKey(Mockito.eq(1L), Mockito.anyString()))
+                .thenAnswer(invocation -> minioKeyBuilder.buildUserFileKey(1L, invocation.getArgument(1)));
+
+        ResourceUploadService uploadService = new ResourceUploadService(minioKeyBuilder, objectStore, keyService,
+                indexService, Mockito.mock(ResourceConflictService.class), new ResourceResponseMapperImpl(),
+                pathValidator, new MultipartValidator(pathValidator), minioProperties,
+                Mockito.mock(BoundedParallelExecutor.class));
+
+        Mockito.when(resourceService.uploadResource(Mockito.anyString(), Mockito.any(FileItemInputIterator.class)))
+                .thenAnswer(invocation -> uploadService.uploadResource(
+                        invocation.getArgument(0), invocation.getArgument(1, FileItemInputIterator.class)));
+
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new ResourceController(resourceService, Mockito.mock(TransferGateway.class)))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Stores every streamed part and indexes it")
+    void shouldUploadStreamedParts() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/resource/stream?path=docs/")
+                        .contentType("multipart/form-data; boundary=" + BOUNDARY)
+                        .content(body("a.txt", "hello", "b.txt", "world!")))
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].name").value("b.txt"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].size").value(6));
+
+        Assertions.assertEquals(5, objectStore.stat("user-1-files/docs/a.txt").size());
+        Mockito.verify(indexService).addFile(Mockito.eq(1L), Mockito.eq("user-1-files/docs/b.txt"),
+                Mockito.eq(6L), Mockito.anyString());
+    }
+
+    @Test
+    @DisplayName("Removes already stored parts when a later part conflicts")
+    void shouldRollBackOnConflict() throws Exception {
+        Mockito.when(indexService.isOccupied("user-1-files/docs/b.txt")).thenReturn(true);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/resource/stream?path=docs/")
+                        .contentType("multipart/form-data; boundary=" + BOUNDARY)
+                        .content(body("a.txt", "hello", "b.txt", "world!")))
+                .andExpect(MockMvcResultMatchers.status().isConflict());
+
+        Assertions.assertTrue(objectStore.list("user-1-files/").isEmpty());
+        Mockito.verify(indexService, Mockito.never())
+                .addFile(Mockito.anyLong(), Mockito.anyString(), Mockito.anyLong(), Mockito.anyString());
+    }
+
+    @Test
+    @DisplayName("Answers 413 and removes stored parts when a part exceeds the size limit")
+    void shouldRejectOversizedPart() throws Exception {
+        minioProperties.getUpload().setMaxFileSize(DataSize.ofBytes(8));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/resource/stream?path=docs/")
+                        .contentType("multipart/form-data; boundary=" + BOUNDARY)
+                        .content(body("a.txt", "hello", "b.txt", "far too large")))
+                .andExpect(MockMvcResultMatchers.status().isPayloadTooLarge());
+
+        Assertions.assertTrue(objectStore.list("user-1-files/").isEmpty());
+    }
+
+    private static byte[] body(String... namesAndContents) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        for (int i = 0; i < namesAndContents.length; i += 2) {
+            body.writeBytes(("--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"resource\"; filename=\"" + namesAndContents[i] + "\"\r\n"
+                    + "Content-Type: application/octet-stream\r\n\r\n"
+                    + namesAndContents[i + 1] + "\r\n").getBytes(StandardCharsets.UTF_8));
+        }
+        body.writeBytes(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        return body.toByteArray();
+    }
+}
@@ -0,0 +1,72 @@
+package com.mysite.cloudfilestorage.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mysite.cloudfilestorage.model.User;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+class CachingAuthenticationProviderTest {
+
+    private AuthenticationProvider delegate;
+    private Cache<String, CachedCredentials> credentialsCache;
+    private CachingAuthenticationProvider provider;
+    private UserPrincipal principal;
+
+    @BeforeEach
+    void setup() {
+        delegate = Mockito.mock(AuthenticationProvider.class);
+        credentialsCache = Caffeine.newBuilder().build();
+        provider = new CachingAuthenticationProvider(delegate, credentialsCache);
+        principal = new UserPrincipal(User.builder().id(1L).username("user").password("hash").build());
+
+        Mockito.when(delegate.authenticate(Mockito.any())).thenAnswer(invocation -> {
+            Authentication token = invocation.getArgument(0);
+            if (!"secret".equals(token.getCredentials())) {
+                throw new BadCredentialsException("Bad credentials");
+            }
+            return UsernamePasswordAuthenticationToken.authenticated(principal, "secret", null);
+        });
+    }
+
+    @Test
+    @DisplayName("Verifies the password once and serves repeated logins from the cache")
+    void repeatedLoginIsCached() {
+        provider.authenticate(token("secret"));
+        Authentication authentication = provider.authenticate(token("secret"));
+
+        Assertions.assertTrue(authentication.isAuthenticated());
+        Assertions.assertSame(principal, authentication.getPrincipal());
+        Mockito.verify(delegate, Mockito.times(1)).authenticate(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Never accepts a different password for a cached user")
+    void wrongPasswordIsRejected() {
+        provider.authenticate(token("secret"));
+
+        Assertions.assertThrows(BadCredentialsException.class, () -> provider.authenticate(token("guess")));
+    }
+
+    @Test
+    @DisplayName("Verifies the password again once the user has changed")
+    void changedUserIsEvicted() {
+        provider.authenticate(token("secret"));
+
+        new UserCredentialsListener(credentialsCache).evict(principal.getUser());
+        provider.authenticate(token("secret"));
+
+        Mockito.verify(delegate, Mockito.times(2)).authenticate(Mockito.any());
+    }
+
+    private static Authentication token(String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated("user", password);
+    }
+}
@@ -0,0 +1,70 @@
+package com.mysite.cloudfilestorage.security;
+
+import com.mysite.cloudfilestorage.config.security.TokenProperties;
+import com.mysite.cloudfilestorage.repository.RevokedTokenRepository;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class TokenAuthenticationFilterTest {
+
+    private static final String SECRET = "c2VjcmV0LXNlY3JldC1zZWNyZXQtc2VjcmV0LXNlY3JldA==";
+
+    private TokenProperties tokenProperties;
+    private TokenService tokenService;
+    private TokenAuthenticationFilter filter;
+
+    @BeforeEach
+    void setup() {
+        tokenProperties = new TokenProperties();
+        tokenProperties.setEnabled(true);
+        tokenProperties.setSecret(SECRET);
+        tokenService = new TokenService(tokenProperties,
+                new TokenRevocationService(Mockito.mock(RevokedTokenRepository.class), tokenProperties));
+        filter = new TokenAuthenticationFilter(tokenService);
+    }
+
+    @AfterEach
+    void cleanup() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Lets a refresh call through when it carries an expired access token")
+    void expiredTokenDoesNotBlockRefresh() throws Exception {
+        tokenProperties.setAccessTokenTtl(Duration.ofSeconds(-1));
+        IssuedTokens tokens = tokenService.issue(7L, "user");
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/refresh");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.accessToken());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        filter.doFilter(request, response, filterChain);
+
+        Assertions.assertSame(request, filterChain.getRequest());
+        Assertions.assertEquals(200, response.getStatus());
+        Assertions.assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("Authenticates a request carrying a valid access token")
+    void validTokenAuthenticates() throws Exception {
+        IssuedTokens tokens = tokenService.issue(7L, "user");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/resource");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.accessToken());
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        UserPrincipal principal = (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        Assertions.assertEquals(7L, principal.getUser().getId());
+    }
+}
@@ -0,0 +1,96 @@
+package com.mysite.cloudfilestorage.security;
+
+import com.mysite.cloudfilestorage.config.security.TokenProperties;
+import com.mysite.cloudfilestorage.repository.RevokedTokenRepository;
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class TokenServiceTest {
+
+    private static final String SECRET = "c2VjcmV0LXNlY3JldC1zZWNyZXQtc2VjcmV0LXNlY3JldA==";
+
+    private TokenProperties tokenProperties;
+    private TokenService tokenService;
+
+    @BeforeEach
+    void setup() {
+        tokenProperties = new TokenProperties();
+        tokenProperties.setEnabled(true);
+        tokenProperties.setSecret(SECRET);
+        tokenService = new TokenService(tokenProperties,
+                new TokenRevocationService(Mockito.mock(RevokedTokenRepository.class), tokenProperties));
+    }
+
+    @Test
+    @DisplayName("Accepts an issued access token and restores its claims")
+    void issuedTokenIsVerified() {
+        IssuedTokens tokens = tokenService.issue(7L, "user|name");
+
+        TokenClaims claims = tokenService.verify(tokens.accessToken(), TokenType.ACCESS).orElseThrow();
+
+        Assertions.assertEquals(7L, claims.userId());
+        Assertions.assertEquals("user|name", claims.username());
+        Assertions.assertTrue(tokenService.verify(tokens.refreshToken(), TokenType.REFRESH).isPresent());
+    }
+
+    @Test
+    @DisplayName("Rejects tampered tokens and tokens of the wrong type")
+    void tamperedTokenIsRejected() {
+        IssuedTokens tokens = tokenService.issue(7L, "user");
+        String accessToken = tokens.accessToken();
+        String tampered = accessToken.substring(0, 5)
+                + (accessToken.charAt(5) == 'A' ? 'B' : 'A')
+                + accessToken.substring(6);
+
+        Assertions.assertTrue(tokenService.verify(tampered, TokenType.ACCESS).isEmpty());
+        Assertions.assertTrue(tokenService.verify(tokens.refreshToken(), TokenType.ACCESS).isEmpty());
+        Assertions.assertTrue(tokenService.verify("garbage", TokenType.ACCESS).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Rejects expired tokens")
+    void expiredTokenIsRejected() {
+        tokenProperties.setAccessTokenTtl(Duration.ofSeconds(-1));
+
+        IssuedTokens tokens = tokenService.issue(7L, "user");
+
+        Assertions.assertTrue(tokenService.verify(tokens.accessToken(), TokenType.ACCESS).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Rejects both tokens of a pair once it is revoked")
+    void revokedTokensAreRejected() {
+        IssuedTokens tokens = tokenService.issue(7L, "user");
+
+        tokenService.revoke(tokenService.verify(tokens.accessToken(), TokenType.ACCESS).orElseThrow());
+
+        Assertions.assertTrue(tokenService.verify(tokens.accessToken(), TokenType.ACCESS).isEmpty());
+        Assertions.assertTrue(tokenService.verify(tokens.refreshToken(), TokenType.REFRESH).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Accepts tokens issued by another instance sharing the secret")
+    void tokenIsVerifiedByAnotherInstance() {
+        TokenService otherNode = new TokenService(tokenProperties,
+                new TokenRevocationService(Mockito.mock(RevokedTokenRepository.class), tokenProperties));
+
+        IssuedTokens tokens = tokenService.issue(7L, "user");
+
+        Assertions.assertTrue(otherNode.verify(tokens.accessToken(), TokenType.ACCESS).isPresent());
+    }
+
+    @Test
+    @DisplayName("Refuses to start without a secret when tokens are enabled")
+    void missingSecretFailsWhenEnabled() {
+        tokenProperties.setSecret(" ");
+        TokenRevocationService tokenRevocationService =
+                new TokenRevocationService(Mockito.mock(RevokedTokenRepository.class), tokenProperties);
+
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> new TokenService(tokenProperties, tokenRevocationService));
+    }
+}
@@ -0,0 +1,136 @@
+package com.mysite.cloudfilestorage.service.minio;
+
+import com.mysite.cloudfilestorage.config.minio.MinioProperties;
+import com.mysite.cloudfilestorage.dto.ArchiveEntry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class ZipArchiveWriterTest {
+
+    private ExecutorService executor;
+    private ZipArchiveWriter zipArchiveWriter;
+
+    @BeforeEach
+    void setup() {
+        MinioProperties minioProperties = new MinioProperties();
+        minioProperties.getDownload().setPrefetchWindow(4);
+        minioProperties.getDownload().setPrefetchMemoryLimit(DataSize.ofBytes(64));
+        minioProperties.getDownload().setBufferedObjectMaxSize(DataSize.ofBytes(16));
+
+        executor = Executors.newFixedThreadPool(4);
+        zipArchiveWriter = new ZipArchiveWriter(executor, minioProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Entries are written in the given order whatever order the objects arrive in")
+    void testWrite_KeepsEntryOrder() throws Exception {
+        List<ArchiveEntry> entries = IntStream.range(0, 50)
+                .mapToObj(i -> new ArchiveEntry("key-" + i, "dir/file-" + i, content(i).length))
+                .toList();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        zipArchiveWriter.write(entries, this::openWithJitter, outputStream);
+
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                int index = Integer.parseInt(entry.getName().substring("dir/file-".length()));
+                Assertions.assertArrayEquals(content(index), zipInputStream.readAllBytes());
+                names.add(entry.getName());
+            }
+        }
+
+        Assertions.assertEquals(entries.stream().map(ArchiveEntry::name).toList(), names);
+    }
+
+    @Test
+    @DisplayName("A failing object aborts the archive with the original exception")
+    void testWrite_PropagatesObjectFailure() {
+        List<ArchiveEntry> entries = IntStream.range(0, 10)
+                .mapToObj(i -> new ArchiveEntry("key-" + i, "file-" + i, 1))
+                .toList();
+
+        Assertions.assertThrows(FileNotFoundException.class, () -> zipArchiveWriter.write(entries, key -> {
+            if (key.equals("key-5")) {
+                throw new FileNotFoundException(key);
+            }
+            return new ByteArrayInputStream(new byte[]{1});
+        }, new ByteArrayOutputStream()));
+    }
+
+    @Test
+    @DisplayName("A stream opened after the archive failed is closed instead of leaked")
+    void testWrite_ClosesStreamOpenedAfterFailure() throws Exception {
+        List<ArchiveEntry> entries = List.of(new ArchiveEntry("key-0", "file-0", 1),
+                new ArchiveEntry("key-1", "file-1", 1024));
+        CountDownLatch opening = new CountDownLatch(1);
+        CountDownLatch failed = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        AtomicBoolean closedFlag = new AtomicBoolean();
+
+        Assertions.assertThrows(FileNotFoundException.class, () -> zipArchiveWriter.write(entries, key -> {
+            if (key.equals("key-0")) {
+                opening.await();
+                throw new FileNotFoundException(key);
+            }
+
+            opening.countDown();
+            awaitIgnoringInterrupts(failed);
+            return new ByteArrayInputStream(new byte[1024]) {
+                @Override
+                public void close() {
+                    closedFlag.set(true);
+                    closed.countDown();
+                }
+            };
+        }, new ByteArrayOutputStream()));
+        failed.countDown();
+
+        Assertions.assertTrue(closed.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(closedFlag.get());
+    }
+
+    private static void awaitIgnoringInterrupts(CountDownLatch latch) {
+        while (latch.getCount() > 0) {
+            try {
+                latch.await();
+            } catch (InterruptedException ignored) {
+            }
+        }
+    }
+
+    private InputStream openWithJitter(String key) throws InterruptedException {
+        Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+        return new ByteArrayInputStream(content(Integer.parseInt(key.substring("key-".length()))));
+    }
+
+    private byte[] content(int index) {
+        return ("content of file " + index + " ").repeat(index % 3 + 1).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,109 @@
+package com.mysite.cloudfilestorage.service.resource.common;
+
+import com.mysite.cloudfilestorage.dto.ParallelResult;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedParallelExecutorTest {
+
+    private static final int PARALLELISM = 3;
+
+    private ExecutorService executor;
+    private BoundedParallelExecutor parallelExecutor;
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newFixedThreadPool(8);
+        parallelExecutor = new BoundedParallelExecutor(executor, () -> PARALLELISM);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Runs every task without exceeding the parallelism and keeps results in item order")
+    void shouldRunAllTasksWithBoundedParallelism() throws Exception {
+        List<String> keys = keys();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        ParallelResult<String> result = parallelExecutor.runAll(keys, key -> "key:" + key, key -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            running.decrementAndGet();
+            return key.toUpperCase();
+        });
+
+        Assertions.assertFalse(result.hasFailures());
+        Assertions.assertEquals(keys.stream().map(key -> "key:" + key).toList(),
+                List.copyOf(result.completed().keySet()));
+        Assertions.assertEquals("FOLDER/FILE-4", result.completed().get("key:folder/file-4"));
+        Assertions.assertTrue(maxRunning.get() <= PARALLELISM);
+    }
+
+    @Test
+    @DisplayName("Reports failed tasks by key separately from completed ones")
+    void shouldCollectFailedTasks() throws Exception {
+        ParallelResult<String> result = parallelExecutor.runAll(keys(), key -> key, key -> {
+            if (key.endsWith("file-3")) {
+                throw new IOException("Task failed");
+            }
+            return key;
+        });
+
+        Assertions.assertTrue(result.hasFailures());
+        Assertions.assertEquals(List.of("folder/file-3"), List.copyOf(result.failedKeys().keySet()));
+        Assertions.assertInstanceOf(IOException.class, result.failedKeys().get("folder/file-3"));
+        Assertions.assertEquals(9, result.completed().size());
+    }
+
+    @Test
+    @DisplayName("Waits for submitted tasks and reports the rest as failed when interrupted while submitting")
+    void shouldReturnSubmittedTasksWhenInterrupted() throws Exception {
+        BoundedParallelExecutor serialExecutor = new BoundedParallelExecutor(executor, () -> 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<ParallelResult<String>> result = new AtomicReference<>();
+        AtomicBoolean interruptRestored = new AtomicBoolean();
+
+        Thread caller = new Thread(() -> {
+            result.set(serialExecutor.runAll(keys(), key -> key, key -> {
+                started.countDown();
+                release.await();
+                return key;
+            }));
+            interruptRestored.set(Thread.currentThread().isInterrupted());
+        });
+        caller.start();
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        caller.interrupt();
+        release.countDown();
+        caller.join(5000);
+
+        Assertions.assertTrue(interruptRestored.get());
+        Assertions.assertEquals(List.of("folder/file-0"), List.copyOf(result.get().completed().keySet()));
+        Assertions.assertEquals(9, result.get().failedKeys().size());
+        Assertions.assertInstanceOf(InterruptedException.class, result.get().failedKeys().get("folder/file-9"));
+    }
+
+    private static List<String> keys() {
+        return IntStream.range(0, 10)
+                .mapToObj(i -> "folder/file-" + i)
+                .toList();
+    }
+}
@@ -0,0 +1,140 @@
+package com.mysite.cloudfilestorage.service.resource.download;
+
+import com.mysite.cloudfilestorage.dto.DownloadResult;
+import com.mysite.cloudfilestorage.dto.StoredObject;
+import com.mysite.cloudfilestorage.service.minio.MinioKeyBuilder;
+import com.mysite.cloudfilestorage.service.minio.ZipArchiveWriter;
+import com.mysite.cloudfilestorage.service.resource.common.ResourceKeyService;
+import com.mysite.cloudfilestorage.service.storage.ObjectStore;
+import com.mysite.cloudfilestorage.validation.PathValidator;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+class ResourceDownloadServiceTest {
+
+    private static final String KEY = "user-1-files/video.mp4";
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+    private static final String ETAG = "\"abc\"";
+
+    private ObjectStore objectStore;
+    private ResourceDownloadService downloadService;
+
+    @BeforeEach
+    void setup() throws Exception {
+        MinioKeyBuilder minioKeyBuilder = Mockito.mock(MinioKeyBuilder.class);
+        ResourceKeyService keyService = Mockito.mock(ResourceKeyService.class);
+        objectStore = Mockito.mock(ObjectStore.class, Mockito.CALLS_REAL_METHODS);
+
+        Mockito.when(keyService.getUserId()).thenReturn(1L);
+        Mockito.when(keyService.getKey(1L, "video.mp4")).thenReturn(KEY);
+        Mockito.when(minioKeyBuilder.buildUserDirectoryName(1L)).thenReturn("user-1-files/");
+        Mockito.when(objectStore.stat(KEY)).thenReturn(new StoredObject(
+                KEY, CONTENT.length, "abc", Instant.parse("2026-10-21T07:28:00Z")));
+        Mockito.when(objectStore.get(KEY))
+                .thenAnswer(invocation -> new ByteArrayInputStream(CONTENT));
+        Mockito.when(objectStore.get(Mockito.eq(KEY), Mockito.anyLong(), Mockito.anyLong()))
+                .thenAnswer(invocation -> {
+                    int offset = Math.toIntExact(invocation.getArgument(1, Long.class));
+                    int length = Math.toIntExact(invocation.getArgument(2, Long.class));
+                    return new ByteArrayInputStream(Arrays.copyOfRange(CONTENT, offset, offset + length));
+                });
+
+        downloadService = new ResourceDownloadService(
+                minioKeyBuilder, objectStore, Mockito.mock(ZipArchiveWriter.class), keyService, new PathValidator());
+    }
+
+    @Test
+    @DisplayName("Serves the whole file with validators when no range is requested")
+    void shouldServeWholeFile() throws Exception {
+        DownloadResult result = downloadService.downloadResource("video.mp4", new HttpHeaders());
+
+        Assertions.assertEquals(HttpStatus.OK, result.status());
+        Assertions.assertEquals(CONTENT.length, result.headers().getContentLength());
+        Assertions.assertEquals("bytes", result.headers().getFirst(HttpHeaders.ACCEPT_RANGES));
+        Assertions.assertEquals(ETAG, result.headers().getETag());
+        Assertions.assertEquals("0123456789", write(result));
+    }
+
+    @Test
+    @DisplayName("Serves a single range with 206 and Content-Range")
+    void shouldServeSingleRange() throws Exception {
+        DownloadResult result = downloadService.downloadResource("video.mp4", headers("bytes=2-5", ETAG));
+
+        Assertions.assertEquals(HttpStatus.PARTIAL_CONTENT, result.status());
+        Assertions.assertEquals("bytes 2-5/10", result.headers().getFirst(HttpHeaders.CONTENT_RANGE));
+        Assertions.assertEquals(4, result.headers().getContentLength());
+        Assertions.assertEquals("2345", write(result));
+    }
+
+    @Test
+    @DisplayName("Serves multiple ranges as multipart/byteranges with an exact Content-Length")
+    void shouldServeMultipleRanges() throws Exception {
+        DownloadResult result = downloadService.downloadResource("video.mp4", headers("bytes=0-1,-3", null));
+
+        String body = write(result);
+
+        Assertions.assertEquals(HttpStatus.PARTIAL_CONTENT, result.status());
+        Assertions.assertEquals("multipart", result.headers().getContentType().getType());
+        Assertions.assertEquals(body.length(), result.headers().getContentLength());
+        Assertions.assertTrue(body.contains("Content-Range: bytes 0-1/10\r\n\r\n01\r\n"));
+        Assertions.assertTrue(body.contains("Content-Range: bytes 7-9/10\r\n\r\n789\r\n"));
+    }
+
+    @Test
+    @DisplayName("Ignores the range when If-Range does not match the current ETag")
+    void shouldIgnoreRangeWhenIfRangeDoesNotMatch() throws Exception {
+        DownloadResult result = downloadService.downloadResource("video.mp4", headers("bytes=2-5", "\"stale\""));
+
+        Assertions.assertEquals(HttpStatus.OK, result.status());
+        Assertions.assertEquals("0123456789", write(result));
+    }
+
+    @Test
+    @DisplayName("Rejects a range that starts beyond the end of the file")
+    void shouldRejectUnsatisfiableRange() throws Exception {
+        DownloadResult result = downloadService.downloadResource("video.mp4", headers("bytes=20-30", null));
+
+        Assertions.assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, result.status());
+        Assertions.assertEquals("bytes */10", result.headers().getFirst(HttpHeaders.CONTENT_RANGE));
+        Assertions.assertNull(result.body());
+    }
+
+    @Test
+    @DisplayName("Answers 304 without a body when If-None-Match matches the current ETag")
+    void shouldAnswerNotModified() throws Exception {
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.setIfNoneMatch(ETAG);
+
+        DownloadResult result = downloadService.downloadResource("video.mp4", requestHeaders);
+
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, result.status());
+        Assertions.assertEquals(ETAG, result.headers().getETag());
+        Assertions.assertNull(result.body());
+        Mockito.verify(objectStore, Mockito.never()).get(KEY);
+    }
+
+    private static HttpHeaders headers(String range, String ifRange) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, range);
+        if (ifRange != null) {
+            headers.set(HttpHeaders.IF_RANGE, ifRange);
+        }
+        return headers;
+    }
+
+    private static String write(DownloadResult result) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        result.body().writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,138 @@
+package com.mysite.cloudfilestorage.service.resource.index;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mysite.cloudfilestorage.dto.ResourceType;
+import com.mysite.cloudfilestorage.model.ResourceMetadata;
+import com.mysite.cloudfilestorage.repository.ResourceMetadataRepository;
+import com.mysite.cloudfilestorage.service.minio.MinioKeyBuilder;
+import com.mysite.cloudfilestorage.service.storage.ObjectStore;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ResourceIndexServiceTest {
+
+    private static final String KEY = "user-1-files/docs/report.pdf";
+
+    private ResourceMetadataRepository repository;
+    private ResourceIndexService indexService;
+
+    @BeforeEach
+    void setup() {
+        repository = Mockito.mock(ResourceMetadataRepository.class);
+        indexService = new ResourceIndexService(
+                repository,
+                Mockito.mock(ObjectStore.class),
+                Mockito.mock(MinioKeyBuilder.class),
+                Caffeine.newBuilder().build(),
+                Caffeine.newBuilder().build());
+    }
+
+    @Test
+    @DisplayName("Serves repeated lookups of the same key from the cache")
+    void findCachesLookups() {
+        Mockito.when(repository.findByPath(KEY)).thenReturn(Optional.of(file(KEY)));
+
+        Assertions.assertTrue(indexService.find(KEY).isPresent());
+        Assertions.assertTrue(indexService.exists(KEY));
+
+        Mockito.verify(repository, Mockito.times(1)).findByPath(KEY);
+    }
+
+    @Test
+    @DisplayName("Returns copies that do not leak changes back into the cache")
+    void findReturnsDetachedCopies() {
+        Mockito.when(repository.findByPath(KEY)).thenReturn(Optional.of(file(KEY)));
+
+        indexService.find(KEY).orElseThrow().setName("changed.pdf");
+
+        Assertions.assertEquals("report.pdf", indexService.find(KEY).orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("Forgets a cached miss once the key is added")
+    void addFileEvictsNegativeEntry() {
+        Mockito.when(repository.findByPath(KEY)).thenReturn(Optional.empty());
+        Assertions.assertFalse(indexService.exists(KEY));
+
+        indexService.addFile(1L, KEY, 10, "etag");
+        Mockito.when(repository.findByPath(KEY)).thenReturn(Optional.of(file(KEY)));
+
+        Assertions.assertTrue(indexService.exists(KEY));
+    }
+
+    @Test
+    @DisplayName("Forgets every cached descendant when a directory is removed")
+    void removeDirectoryEvictsDescendants() {
+        Mockito.when(repository.findByPath(KEY)).thenReturn(Optional.of(file(KEY)));
+        Assertions.assertTrue(indexService.exists(KEY));
+
+        indexService.removeDirectory("user-1-files/docs/");
+        Mockito.when(repository.findByPath(KEY)).thenReturn(Optional.empty());
+
+        Assertions.assertFalse(indexService.exists(KEY));
+    }
+
+    @Test
+    @DisplayName("Keeps other users' cached entries when a directory is removed")
+    void removeDirectoryKeepsOtherUsers() {
+        String otherKey = "user-2-files/docs/report.pdf";
+        Mockito.when(repository.findByPath(otherKey)).thenReturn(Optional.of(file(otherKey)));
+        Assertions.assertTrue(indexService.exists(otherKey));
+
+        indexService.removeDirectory("user-1-files/docs/");
+
+        Assertions.assertTrue(indexService.exists(otherKey));
+        Mockito.verify(repository, Mockito.times(1)).findByPath(otherKey);
+    }
+
+    @Test
+    @DisplayName("Defers eviction to transaction completion when a transaction is active")
+    void removeDirectoryEvictsAfterCompletion() {
+        Mockito.when(repository.findByPath(KEY)).thenReturn(Optional.of(file(KEY)));
+        Assertions.assertTrue(indexService.exists(KEY));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            indexService.removeDirectory("user-1-files/docs/");
+            Mockito.when(repository.findByPath(KEY)).thenReturn(Optional.empty());
+            Assertions.assertTrue(indexService.exists(KEY));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(
+                            TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertFalse(indexService.exists(KEY));
+    }
+
+    @Test
+    @DisplayName("Searches queries too short for trigrams by name prefix")
+    void shortQueryUsesPrefixSearch() {
+        indexService.search(1L, "r_", 10, 0);
+        indexService.search(1L, "report", 10, 0);
+
+        Mockito.verify(repository).searchByNamePrefix(1L, "r_", "r\\_%", 10, 0);
+        Mockito.verify(repository).searchByName(1L, "report", "%report%", "report%", 10, 0);
+    }
+
+    private static ResourceMetadata file(String key) {
+        return ResourceMetadata.builder()
+                .userId(1L)
+                .path(key)
+                .parent("user-1-files/docs/")
+                .name("report.pdf")
+                .type(ResourceType.FILE)
+                .size(10L)
+                .modifiedAt(Instant.now())
+                .build();
+    }
+}
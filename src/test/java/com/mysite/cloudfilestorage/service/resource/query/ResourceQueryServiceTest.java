@@ -0,0 +1,89 @@
+package com.mysite.cloudfilestorage.service.resource.query;
+
+import com.mysite.cloudfilestorage.dto.DirectoryCursor;
+import com.mysite.cloudfilestorage.dto.ResourcePage;
+import com.mysite.cloudfilestorage.dto.ResourceType;
+import com.mysite.cloudfilestorage.exception.minio.InvalidQueryException;
+import com.mysite.cloudfilestorage.mapper.ResourceResponseMapperImpl;
+import com.mysite.cloudfilestorage.model.ResourceMetadata;
+import com.mysite.cloudfilestorage.service.minio.MinioKeyBuilder;
+import com.mysite.cloudfilestorage.service.resource.common.ResourceKeyService;
+import com.mysite.cloudfilestorage.service.resource.common.ResourceLookupService;
+import com.mysite.cloudfilestorage.service.resource.index.ResourceIndexService;
+import com.mysite.cloudfilestorage.service.resource.util.ResourceMapper;
+import com.mysite.cloudfilestorage.validation.PathValidator;
+import com.mysite.cloudfilestorage.validation.QueryValidator;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ResourceQueryServiceTest {
+
+    private static final String KEY = "user-1-files/docs/";
+
+    private ResourceIndexService indexService;
+    private ResourceQueryService queryService;
+
+    @BeforeEach
+    void setup() throws Exception {
+        ResourceKeyService keyService = Mockito.mock(ResourceKeyService.class);
+        indexService = Mockito.mock(ResourceIndexService.class);
+
+        Mockito.when(keyService.getUserId()).thenReturn(1L);
+        Mockito.when(keyService.getKey(1L, "docs/")).thenReturn(KEY);
+        Mockito.when(indexService.exists(KEY)).thenReturn(true);
+
+        queryService = new ResourceQueryService(new MinioKeyBuilder(), indexService, keyService,
+                Mockito.mock(ResourceLookupService.class), new ResourceMapper(new ResourceResponseMapperImpl()),
+                new PathValidator(), new QueryValidator());
+    }
+
+    @Test
+    @DisplayName("Returns the last page without a cursor")
+    void shouldOmitCursorOnLastPage() throws Exception {
+        Mockito.when(indexService.findChildren(KEY, null, 201)).thenReturn(files(150));
+
+        ResourcePage page = queryService.getResourceForDirectory("docs/", 200, null);
+
+        Assertions.assertEquals(150, page.resources().size());
+        Assertions.assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Returns one page and a cursor to the next when a limit is given")
+    void shouldPageWithLimit() throws Exception {
+        Mockito.when(indexService.findChildren(KEY, null, 3)).thenReturn(files(3));
+
+        ResourcePage page = queryService.getResourceForDirectory("docs/", 2, null);
+
+        Assertions.assertEquals(2, page.resources().size());
+        Assertions.assertEquals(new DirectoryCursor(ResourceType.FILE, "file-1.txt"),
+                DirectoryCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("Rejects page sizes above the upper bound")
+    void shouldRejectOversizedLimit() {
+        Assertions.assertThrows(InvalidQueryException.class,
+                () -> queryService.getResourceForDirectory("docs/", 1001, null));
+    }
+
+    private static List<ResourceMetadata> files(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> ResourceMetadata.builder()
+                        .userId(1L)
+                        .path(KEY + "file-" + i + ".txt")
+                        .parent(KEY)
+                        .name("file-" + i + ".txt")
+                        .type(ResourceType.FILE)
+                        .size(1L)
+                        .modifiedAt(Instant.now())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,183 @@
+package com.mysite.cloudfilestorage.service.resource.upload;
+
+import com.mysite.cloudfilestorage.config.minio.MinioProperties;
+import com.mysite.cloudfilestorage.config.storage.StorageProperties;
+import com.mysite.cloudfilestorage.dto.ResourceResponse;
+import com.mysite.cloudfilestorage.dto.UploadSessionResponse;
+import com.mysite.cloudfilestorage.dto.UploadedObject;
+import com.mysite.cloudfilestorage.exception.minio.InvalidRequestBodyException;
+import com.mysite.cloudfilestorage.exception.minio.ParentDirectoryIsNotFoundException;
+import com.mysite.cloudfilestorage.exception.minio.ResourceIsNotFoundException;
+import com.mysite.cloudfilestorage.model.UploadSession;
+import com.mysite.cloudfilestorage.repository.UploadSessionRepository;
+import com.mysite.cloudfilestorage.service.minio.MinioKeyBuilder;
+import com.mysite.cloudfilestorage.service.resource.common.ResourceConflictService;
+import com.mysite.cloudfilestorage.service.resource.common.ResourceKeyService;
+import com.mysite.cloudfilestorage.service.resource.index.ResourceIndexService;
+import com.mysite.cloudfilestorage.service.storage.InMemoryObjectStore;
+import com.mysite.cloudfilestorage.validation.PathValidator;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.util.unit.DataSize;
+
+class UploadSessionServiceTest {
+
+    private static final String KEY = "user-1-files/docs/report.txt";
+
+    private final Map<UUID, UploadSession> sessions = new ConcurrentHashMap<>();
+    private InMemoryObjectStore objectStore;
+    private ResourceUploadService uploadService;
+    private MinioProperties minioProperties;
+    private ResourceIndexService indexService;
+    private UploadSessionService sessionService;
+
+    @BeforeEach
+    void setup() throws Exception {
+        UploadSessionRepository sessionRepository = Mockito.mock(UploadSessionRepository.class);
+        ResourceKeyService keyService = Mockito.mock(ResourceKeyService.class);
+        indexService = Mockito.mock(ResourceIndexService.class);
+        objectStore = new InMemoryObjectStore(new StorageProperties());
+        uploadService = Mockito.mock(ResourceUploadService.class);
+        minioProperties = new MinioProperties();
+
+        Mockito.when(keyService.getUserId()).thenReturn(1L);
+        Mockito.when(keyService.getKey(1L, "docs/report.txt")).thenReturn(KEY);
+        Mockito.when(indexService.exists("user-1-files/docs/")).thenReturn(true);
+        Mockito.when(sessionRepository.save(Mockito.any(UploadSession.class))).thenAnswer(invocation -> {
+            UploadSession session = invocation.getArgument(0);
+            if (session.getId() == null) {
+                session.setId(UUID.randomUUID());
+            }
+            sessions.put(session.getId(), session);
+            return session;
+        });
+        Mockito.when(sessionRepository.findByIdAndUserId(Mockito.any(UUID.class), Mockito.eq(1L)))
+                .thenAnswer(invocation -> Optional.ofNullable(sessions.get(invocation.<UUID>getArgument(0))));
+        Mockito.when(sessionRepository.findTop100ByCreatedAtBeforeOrderByCreatedAt(Mockito.any(Instant.class)))
+                .thenAnswer(invocation -> sessions.values().stream()
+                        .filter(session -> session.getCreatedAt().isBefore(invocation.getArgument(0)))
+                        .sorted(Comparator.comparing(UploadSession::getCreatedAt))
+                        .limit(100)
+                        .toList());
+        Mockito.doAnswer(invocation -> sessions.remove(invocation.<UploadSession>getArgument(0).getId()))
+                .when(sessionRepository).delete(Mockito.any(UploadSession.class));
+        Mockito.when(uploadService.indexUploadedObjects(Mockito.eq(1L), Mockito.anyList()))
+                .thenAnswer(invocation -> List.of(ResourceResponse.builder()
+                        .size(invocation.<List<UploadedObject>>getArgument(1).getFirst().size())
+                        .build()));
+
+        sessionService = new UploadSessionService(sessionRepository, objectStore, keyService,
+                Mockito.mock(ResourceConflictService.class), indexService, new MinioKeyBuilder(), uploadService,
+                new PathValidator(), minioProperties);
+    }
+
+    @Test
+    @DisplayName("Assembles chunks sent out of order and repeated in chunk-number order")
+    void shouldCompleteOutOfOrderAndDuplicateChunks() throws Exception {
+        UUID id = sessionService.createSession("docs/report.txt").getId();
+
+        sessionService.uploadChunk(id, 3, chunk("!"), 1);
+        sessionService.uploadChunk(id, 1, chunk("hello"), 5);
+        sessionService.uploadChunk(id, 2, chunk("wrong"), 5);
+        sessionService.uploadChunk(id, 2, chunk(" world"), 6);
+
+        UploadSessionResponse status = sessionService.getSession(id);
+        Assertions.assertEquals(List.of(1, 2, 3), status.getUploadedChunks());
+        Assertions.assertEquals(12, status.getUploadedSize());
+
+        ResourceResponse resource = sessionService.completeSession(id);
+
+        Assertions.assertEquals(12, resource.getSize());
+        try (InputStream inputStream = objectStore.get(KEY)) {
+            Assertions.assertEquals("hello world!", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        Assertions.assertTrue(sessions.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Refuses to complete a session with a missing chunk and keeps it resumable")
+    void shouldRejectMissingChunk() throws Exception {
+        UUID id = sessionService.createSession("docs/report.txt").getId();
+
+        sessionService.uploadChunk(id, 1, chunk("hello"), 5);
+        sessionService.uploadChunk(id, 3, chunk("!"), 1);
+
+        Assertions.assertThrows(InvalidRequestBodyException.class, () -> sessionService.completeSession(id));
+
+        sessionService.uploadChunk(id, 2, chunk(" world"), 6);
+        sessionService.completeSession(id);
+
+        Assertions.assertEquals(12, objectStore.stat(KEY).size());
+    }
+
+    @Test
+    @DisplayName("Aborting a session drops its chunks and the session itself")
+    void shouldAbortSession() throws Exception {
+        UUID id = sessionService.createSession("docs/report.txt").getId();
+        String uploadId = sessions.get(id).getUploadId();
+        sessionService.uploadChunk(id, 1, chunk("hello"), 5);
+
+        sessionService.abortSession(id);
+
+        Assertions.assertThrows(ResourceIsNotFoundException.class, () -> sessionService.getSession(id));
+        Assertions.assertThrows(ResourceIsNotFoundException.class, () -> objectStore.listParts(KEY, uploadId));
+        Assertions.assertThrows(ResourceIsNotFoundException.class, () -> objectStore.stat(KEY));
+    }
+
+    @Test
+    @DisplayName("Removes sessions older than the TTL together with their multipart uploads")
+    void shouldRemoveExpiredSessions() throws Exception {
+        minioProperties.getUpload().setSessionTtl(Duration.ofHours(1));
+        UUID expiredId = sessionService.createSession("docs/report.txt").getId();
+        UUID activeId = sessionService.createSession("docs/report.txt").getId();
+        UploadSession expired = sessions.get(expiredId);
+        expired.setCreatedAt(Instant.now().minus(Duration.ofHours(2)));
+        sessionService.uploadChunk(expiredId, 1, chunk("stale"), 5);
+
+        sessionService.removeExpiredSessions();
+
+        Assertions.assertEquals(List.of(activeId), List.copyOf(sessions.keySet()));
+        Assertions.assertThrows(ResourceIsNotFoundException.class,
+                () -> objectStore.listParts(KEY, expired.getUploadId()));
+        Assertions.assertTrue(sessionService.getSession(activeId).getUploadedChunks().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Refuses to create a session in a directory that does not exist")
+    void shouldRejectMissingParentDirectory() {
+        Mockito.when(indexService.exists("user-1-files/docs/")).thenReturn(false);
+
+        Assertions.assertThrows(ParentDirectoryIsNotFoundException.class,
+                () -> sessionService.createSession("docs/report.txt"));
+    }
+
+    @Test
+    @DisplayName("Rejects an undersized chunk before its body is read once it cannot be the last one")
+    void shouldRejectUndersizedNonFinalChunk() throws Exception {
+        minioProperties.getUpload().setMinChunkSize(DataSize.ofBytes(5));
+        UUID id = sessionService.createSession("docs/report.txt").getId();
+        sessionService.uploadChunk(id, 2, chunk("hi"), 2);
+
+        Assertions.assertThrows(InvalidRequestBodyException.class, () -> sessionService.validateChunk(id, 1, 4));
+        Assertions.assertThrows(InvalidRequestBodyException.class, () -> sessionService.validateChunk(id, 3, 5));
+        Assertions.assertDoesNotThrow(() -> sessionService.validateChunk(id, 1, 5));
+    }
+
+    private static InputStream chunk(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
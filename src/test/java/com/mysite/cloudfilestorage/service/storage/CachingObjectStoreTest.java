@@ -0,0 +1,50 @@
+package com.mysite.cloudfilestorage.service.storage;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mysite.cloudfilestorage.config.storage.StorageProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CachingObjectStoreTest {
+
+    private static final String KEY = "user-1-files/a.bin";
+
+    private MeterRegistry meterRegistry;
+    private CachingObjectStore objectStore;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        objectStore = new CachingObjectStore(
+                new MeteredObjectStore(new InMemoryObjectStore(new StorageProperties()), meterRegistry, "memory"),
+                Caffeine.newBuilder().build());
+    }
+
+    @Test
+    @DisplayName("Does not record cached stats as storage calls")
+    void shouldNotMeterCacheHits() throws Exception {
+        objectStore.put(KEY, new ByteArrayInputStream(new byte[10]), 10L);
+
+        objectStore.stat(KEY);
+        objectStore.stat(KEY);
+
+        Assertions.assertEquals(1, meterRegistry.get("storage.operations")
+                .tags("operation", "stat", "outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("Forgets a cached stat once the object is overwritten")
+    void shouldInvalidateOnPut() throws Exception {
+        objectStore.put(KEY, new ByteArrayInputStream(new byte[10]), 10L);
+        Assertions.assertEquals(10, objectStore.stat(KEY).size());
+
+        objectStore.put(KEY, new ByteArrayInputStream(new byte[20]), 20L);
+
+        Assertions.assertEquals(20, objectStore.stat(KEY).size());
+    }
+}
@@ -0,0 +1,71 @@
+package com.mysite.cloudfilestorage.service.storage;
+
+import com.mysite.cloudfilestorage.config.storage.StorageProperties;
+import com.mysite.cloudfilestorage.dto.StoredObject;
+import com.mysite.cloudfilestorage.dto.StoredPart;
+import com.mysite.cloudfilestorage.exception.minio.InvalidRequestBodyException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryObjectStoreTest {
+
+    @Test
+    @DisplayName("Lists only keys under the prefix and moves objects without copying them")
+    void shouldListByPrefixAndMove() throws Exception {
+        InMemoryObjectStore objectStore = new InMemoryObjectStore(new StorageProperties());
+        objectStore.put("user-1-files/docs/", stream(""), 0L);
+        objectStore.put("user-1-files/docs/a.txt", stream("abc"), 3L);
+        objectStore.put("user-1-files/docs2/b.txt", stream("b"), 1L);
+
+        objectStore.move("user-1-files/docs/a.txt", "user-1-files/a.txt", 3);
+
+        List<String> keys = objectStore.list("user-1-files/docs/")
+                .stream()
+                .map(StoredObject::key)
+                .toList();
+
+        Assertions.assertEquals(List.of("user-1-files/docs/"), keys);
+        Assertions.assertEquals(3, objectStore.stat("user-1-files/a.txt").size());
+        try (InputStream inputStream = objectStore.get("user-1-files/a.txt", 1, 5)) {
+            Assertions.assertEquals("bc", new String(inputStream.readAllBytes(), StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    @DisplayName("Delays every call by the configured latency and fails at the configured rate")
+    void shouldInjectLatencyAndFailures() {
+        StorageProperties storageProperties = new StorageProperties();
+        storageProperties.getMemory().setLatency(Duration.ofMillis(20));
+        storageProperties.getMemory().setFailureRate(1);
+        InMemoryObjectStore objectStore = new InMemoryObjectStore(storageProperties);
+
+        long start = System.nanoTime();
+        Assertions.assertThrows(IOException.class, () -> objectStore.list("user-1-files/"));
+
+        Assertions.assertTrue(System.nanoTime() - start >= Duration.ofMillis(20).toNanos());
+    }
+
+    @Test
+    @DisplayName("Rejects completing a multipart upload with a part that was never uploaded")
+    void shouldRejectUnknownPartOnComplete() throws Exception {
+        InMemoryObjectStore objectStore = new InMemoryObjectStore(new StorageProperties());
+        String uploadId = objectStore.createMultipartUpload("user-1-files/big.bin");
+        String etag = objectStore.uploadPart("user-1-files/big.bin", uploadId, 1, stream("abc"), 3);
+
+        List<StoredPart> parts = List.of(new StoredPart(1, etag, 3), new StoredPart(2, "missing", 3));
+
+        Assertions.assertThrows(InvalidRequestBodyException.class,
+                () -> objectStore.completeMultipartUpload("user-1-files/big.bin", uploadId, parts));
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII));
+    }
+}
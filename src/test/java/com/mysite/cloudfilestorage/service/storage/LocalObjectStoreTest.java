@@ -0,0 +1,102 @@
+package com.mysite.cloudfilestorage.service.storage;
+
+import com.mysite.cloudfilestorage.config.storage.StorageProperties;
+import com.mysite.cloudfilestorage.dto.StoredObject;
+import com.mysite.cloudfilestorage.dto.StoredPart;
+import com.mysite.cloudfilestorage.exception.minio.InvalidPathException;
+import com.mysite.cloudfilestorage.exception.minio.ResourceIsNotFoundException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LocalObjectStoreTest {
+
+    @TempDir
+    private Path root;
+
+    private LocalObjectStore objectStore;
+
+    @BeforeEach
+    void setup() throws Exception {
+        StorageProperties storageProperties = new StorageProperties();
+        storageProperties.getLocal().setRoot(root.toString());
+        objectStore = new LocalObjectStore(storageProperties);
+    }
+
+    @Test
+    @DisplayName("Lists files and explicit directories under a prefix and serves byte ranges")
+    void shouldListAndReadObjects() throws Exception {
+        objectStore.put("user-1-files/", stream(""), 0L);
+        objectStore.put("user-1-files/docs/", stream(""), 0L);
+        String etag = objectStore.put("user-1-files/docs/a.txt", stream("0123456789"), 10L);
+
+        List<String> keys = objectStore.list("user-1-files/docs/")
+                .stream()
+                .map(StoredObject::key)
+                .toList();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        objectStore.transferTo("user-1-files/docs/a.txt", 2, 4, outputStream);
+
+        Assertions.assertEquals(List.of("user-1-files/docs/", "user-1-files/docs/a.txt"), keys);
+        Assertions.assertEquals(etag, objectStore.stat("user-1-files/docs/a.txt").etag());
+        Assertions.assertEquals("2345", outputStream.toString(StandardCharsets.US_ASCII));
+        try (InputStream inputStream = objectStore.get("user-1-files/docs/a.txt", 7, 3)) {
+            Assertions.assertEquals("789", new String(inputStream.readAllBytes(), StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    @DisplayName("Moves a file atomically and prunes the emptied implicit directories")
+    void shouldMoveFileAndPruneSourceDirectories() throws Exception {
+        objectStore.put("user-1-files/", stream(""), 0L);
+        objectStore.put("user-1-files/a/b/file.txt", stream("data"), 4L);
+
+        objectStore.move("user-1-files/a/b/file.txt", "user-1-files/file.txt", 4);
+
+        Assertions.assertEquals(4, objectStore.stat("user-1-files/file.txt").size());
+        Assertions.assertFalse(Files.exists(root.resolve("user-1-files/a")));
+        Assertions.assertThrows(ResourceIsNotFoundException.class,
+                () -> objectStore.stat("user-1-files/a/b/file.txt"));
+    }
+
+    @Test
+    @DisplayName("Assembles multipart uploads in part order and discards the staged parts")
+    void shouldCompleteMultipartUpload() throws Exception {
+        String key = "user-1-files/big.bin";
+        String uploadId = objectStore.createMultipartUpload(key);
+        objectStore.uploadPart(key, uploadId, 2, stream("world"), 5);
+        objectStore.uploadPart(key, uploadId, 1, stream("hello "), 6);
+
+        List<StoredPart> parts = objectStore.listParts(key, uploadId);
+        objectStore.completeMultipartUpload(key, uploadId, parts);
+
+        try (InputStream inputStream = objectStore.get(key)) {
+            Assertions.assertEquals("hello world", new String(inputStream.readAllBytes(), StandardCharsets.US_ASCII));
+        }
+        Assertions.assertEquals(List.of(1, 2), parts.stream().map(StoredPart::partNumber).toList());
+        Assertions.assertThrows(ResourceIsNotFoundException.class, () -> objectStore.listParts(key, uploadId));
+    }
+
+    @Test
+    @DisplayName("Rejects keys that use the directory marker name")
+    void shouldRejectDirectoryMarkerName() {
+        Assertions.assertThrows(InvalidPathException.class,
+                () -> objectStore.put("user-1-files/docs/.cfs-directory", stream("file"), 4L));
+        Assertions.assertThrows(InvalidPathException.class,
+                () -> objectStore.put("user-1-files/.cfs-directory/a.txt", stream("file"), 4L));
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,49 @@
+package com.mysite.cloudfilestorage.service.storage;
+
+import com.mysite.cloudfilestorage.config.storage.StorageProperties;
+import com.mysite.cloudfilestorage.exception.minio.ResourceIsNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MeteredObjectStoreTest {
+
+    private MeterRegistry meterRegistry;
+    private MeteredObjectStore objectStore;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        objectStore = new MeteredObjectStore(new InMemoryObjectStore(new StorageProperties()), meterRegistry, "memory");
+    }
+
+    @Test
+    @DisplayName("Times each call by operation and counts the bytes written and read")
+    void shouldRecordOperationsAndBytes() throws Exception {
+        objectStore.put("user-1-files/a.bin", new ByteArrayInputStream(new byte[1000]), 1000L);
+        try (InputStream inputStream = objectStore.get("user-1-files/a.bin", 100, 400)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+
+        Assertions.assertEquals(1, meterRegistry.get("storage.operations")
+                .tags("operation", "put", "outcome", "success").timer().count());
+        Assertions.assertEquals(1000, meterRegistry.get("storage.bytes").tag("direction", "write").counter().count());
+        Assertions.assertEquals(400, meterRegistry.get("storage.bytes").tag("direction", "read").counter().count());
+        Assertions.assertEquals(1000, meterRegistry.get("storage.object.size").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Tags missing objects separately from failures")
+    void shouldRecordNotFoundOutcome() {
+        Assertions.assertThrows(ResourceIsNotFoundException.class, () -> objectStore.stat("user-1-files/missing"));
+
+        Assertions.assertEquals(1, meterRegistry.get("storage.operations")
+                .tags("operation", "stat", "outcome", "not_found").timer().count());
+    }
+}
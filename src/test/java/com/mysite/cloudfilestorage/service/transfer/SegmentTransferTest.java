@@ -0,0 +1,138 @@
+package com.mysite.cloudfilestorage.service.transfer;
+
+import com.mysite.cloudfilestorage.dto.TransferSegment;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class SegmentTransferTest {
+
+    private static final byte[] OBJECT = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+    private static final int MEMORY_LIMIT = 64;
+
+    private AsyncContext asyncContext;
+    private HttpServletResponse response;
+    private RecordingOutputStream outputStream;
+    private Semaphore memory;
+    private AtomicLong written;
+    private AtomicInteger opened;
+
+    @BeforeEach
+    void setup() throws IOException {
+        asyncContext = Mockito.mock(AsyncContext.class);
+        response = Mockito.mock(HttpServletResponse.class);
+        outputStream = new RecordingOutputStream();
+        memory = new Semaphore(MEMORY_LIMIT);
+        written = new AtomicLong();
+        opened = new AtomicInteger();
+
+        Mockito.when(asyncContext.getResponse()).thenReturn(response);
+        Mockito.when(response.getOutputStream()).thenReturn(outputStream);
+    }
+
+    @Test
+    @DisplayName("Writes literal and object segments in order through bounded windows of one ranged stream")
+    void shouldWriteSegmentsInOrder() throws IOException {
+        SegmentTransfer transfer = new SegmentTransfer(asyncContext,
+                List.of(TransferSegment.bytes("<".getBytes(StandardCharsets.US_ASCII)),
+                        TransferSegment.object("key", 3, 15),
+                        TransferSegment.bytes(">".getBytes(StandardCharsets.US_ASCII))),
+                this::open, Runnable::run, Runnable::run, memory, 4, written::addAndGet);
+
+        transfer.start();
+
+        Assertions.assertEquals("<3456789abcdefgh>", outputStream.content());
+        Assertions.assertEquals(17, written.get());
+        Assertions.assertEquals(1, opened.get());
+        Assertions.assertEquals(MEMORY_LIMIT, memory.availablePermits());
+        Mockito.verify(asyncContext).complete();
+    }
+
+    @Test
+    @DisplayName("Answers 500 and releases memory when the first window cannot be fetched")
+    void shouldFailWhenFetchFails() throws IOException {
+        SegmentTransfer transfer = new SegmentTransfer(asyncContext,
+                List.of(TransferSegment.object("key", 0, 10)),
+                (key, offset, length) -> {
+                    throw new IOException("storage is unavailable");
+                },
+                Runnable::run, Runnable::run, memory, 4, written::addAndGet);
+
+        transfer.start();
+
+        Mockito.verify(response).setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        Assertions.assertEquals(0, written.get());
+        Mockito.verify(asyncContext).complete();
+        Assertions.assertEquals(MEMORY_LIMIT, memory.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Reschedules instead of blocking when the memory budget is exhausted")
+    void shouldRetryWhenMemoryIsExhausted() throws IOException {
+        List<Runnable> retries = new ArrayList<>();
+        memory.acquireUninterruptibly(MEMORY_LIMIT);
+        SegmentTransfer transfer = new SegmentTransfer(asyncContext,
+                List.of(TransferSegment.object("key", 0, 6)),
+                this::open, Runnable::run, retries::add, memory, 4, written::addAndGet);
+
+        transfer.start();
+
+        Assertions.assertEquals(1, retries.size());
+        Assertions.assertEquals("", outputStream.content());
+
+        memory.release(MEMORY_LIMIT);
+        retries.removeFirst().run();
+
+        Assertions.assertEquals("012345", outputStream.content());
+        Assertions.assertEquals(MEMORY_LIMIT, memory.availablePermits());
+        Mockito.verify(asyncContext).complete();
+    }
+
+    private ByteArrayInputStream open(String key, long offset, long length) {
+        opened.incrementAndGet();
+        return new ByteArrayInputStream(OBJECT, (int) offset, (int) length);
+    }
+
+    private static class RecordingOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                writeListener.onWritePossible();
+            } catch (IOException exception) {
+                writeListener.onError(exception);
+            }
+        }
+
+        @Override
+        public void write(int b) {
+            content.write(b);
+        }
+
+        String content() {
+            return content.toString(StandardCharsets.US_ASCII);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.mysite.cloudfilestorage.service.transfer;
+
+import com.mysite.cloudfilestorage.config.minio.MinioProperties;
+import com.mysite.cloudfilestorage.service.ResourceMetrics;
+import com.mysite.cloudfilestorage.service.storage.ObjectStore;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.async.DeferredResult;
+
+class TransferGatewayTest {
+
+    @Test
+    @DisplayName("Streams a body straight to the consumer when it does not fit the memory budget")
+    void shouldStreamBodyOverMemoryBudget() throws Exception {
+        MinioProperties minioProperties = new MinioProperties();
+        minioProperties.getTransfer().setNonBlocking(true);
+        minioProperties.getTransfer().setMemoryLimit(DataSize.ofBytes(4));
+        TransferGateway transferGateway = new TransferGateway(Mockito.mock(ExecutorService.class),
+                Mockito.mock(ObjectStore.class), Mockito.mock(ResourceMetrics.class), minioProperties);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/resource/upload-sessions/1/chunks/1");
+        request.setAsyncSupported(true);
+        request.setContent("too large".getBytes(StandardCharsets.UTF_8));
+        AtomicReference<String> received = new AtomicReference<>();
+
+        DeferredResult<ResponseEntity<Void>> result = transferGateway.receive(request, 9,
+                inputStream -> received.set(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)));
+
+        Assertions.assertEquals("too large", received.get());
+        Assertions.assertEquals(HttpStatus.NO_CONTENT, ((ResponseEntity<?>) result.getResult()).getStatusCode());
+    }
+}